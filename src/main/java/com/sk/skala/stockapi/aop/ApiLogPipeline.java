@@ -0,0 +1,253 @@
+package com.sk.skala.stockapi.aop;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.aspectj.lang.Signature;
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Constant;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.ApiLog;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.tools.HostInfo;
+import com.sk.skala.stockapi.tools.JsonTool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 로그 비동기 기록 (application.api-log.async=true).
+ * - 요청 스레드는 미리 만들어 둔 ring buffer slot 에 참조만 담고 바로 반환 (직렬화/로그 I/O 없음)
+ * - 소비 스레드 하나가 slot 순서대로 ApiLog 를 만들어 JSON 직렬화, batch-size 건씩 한 번에 기록
+ * - 버퍼가 가득 차면 기다리지 않고 버림 (api.log.dropped 로 집계)
+ * - 요청 인자/응답 객체는 참조로 넘기므로 기록 시점의 상태로 직렬화됨
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ApiLogPipeline {
+
+    private static final int MAX_RETAINED = 1 << 20;
+
+    private final ApplicationProperties applicationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Slot[] slots;
+    private int mask;
+    private int batchSize;
+    private long idleNanos;
+
+    // 다음에 쓸 순번 (생산자), 다음에 읽을 순번 (소비자)
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    private Thread consumer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        ApplicationProperties.ApiLog config = applicationProperties.getApiLog();
+        if (!config.isAsync()) {
+            return;
+        }
+
+        // 순번 → slot 을 비트 연산으로 찾도록 2 의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(Math.max(2, config.getBufferSize() - 1)) << 1;
+        slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            slots[i].sequence = i - size;
+        }
+        mask = size - 1;
+        batchSize = Math.max(1, config.getBatchSize());
+        idleNanos = Math.max(1, config.getIdleWait()) * 1_000_000L;
+
+        FunctionCounter.builder("api.log.dropped", dropped, LongAdder::doubleValue).register(meterRegistry);
+        FunctionCounter.builder("api.log.written", written, LongAdder::doubleValue).register(meterRegistry);
+        Gauge.builder("api.log.pending", this, ApiLogPipeline::pending).register(meterRegistry);
+
+        running = true;
+        consumer = new Thread(this::consume, "api-log-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long pending() {
+        return claimed.get() - consumed;
+    }
+
+    // 요청 스레드: 빈 slot 을 잡아서 참조만 기록 (가득 차면 버리고 false)
+    public boolean publish(long timestamp, String remoteAddress, String method, String url, String requestParams,
+            Signature signature, Object[] args, Object result, String error, long elapsedTime) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) sequence & mask];
+        slot.timestamp = timestamp;
+        slot.remoteAddress = remoteAddress;
+        slot.method = method;
+        slot.url = url;
+        slot.requestParams = requestParams;
+        slot.signature = signature;
+        slot.args = args;
+        slot.result = result;
+        slot.error = error;
+        slot.elapsedTime = elapsedTime;
+        // 마지막에 순번을 써서 소비 스레드에 공개 (volatile write)
+        slot.sequence = sequence;
+        return true;
+    }
+
+    // 소비 스레드: 공개된 slot 을 순서대로 읽어서 batch 단위로 기록
+    private void consume() {
+        String name = applicationProperties.getName();
+        StringWriter batch = new StringWriter(4096);
+        int count = 0;
+        while (true) {
+            long sequence = consumed;
+            Slot slot = slots[(int) sequence & mask];
+            if (slot.sequence == sequence) {
+                try {
+                    append(batch, name, slot);
+                    count++;
+                } catch (RuntimeException e) {
+                    log.error("ApiLogPipeline.append: {}", e.getMessage());
+                }
+                slot.clear();
+                consumed = sequence + 1;
+                if (count < batchSize) {
+                    continue;
+                }
+            }
+
+            if (count > 0) {
+                flush(batch, count);
+                count = 0;
+                continue;
+            }
+            if (!running && claimed.get() == consumed) {
+                return;
+            }
+            LockSupport.parkNanos(idleNanos);
+        }
+    }
+
+    private void append(StringWriter batch, String name, Slot slot) {
+        ApiLog apiLog = new ApiLog();
+        apiLog.setTimestamp(slot.timestamp);
+        apiLog.setRemoteAddress(slot.remoteAddress);
+        apiLog.setApiHost(HostInfo.getHostname());
+        apiLog.setApiUrl(slot.url);
+        apiLog.setApiMethod(slot.method);
+        apiLog.setApiController(slot.signature.getDeclaringTypeName() + "." + slot.signature.getName());
+        apiLog.setRequestParams(slot.requestParams);
+        if (slot.args != null) {
+            apiLog.setRequestBody(JsonTool.toString(slot.args));
+        }
+        if (slot.error != null) {
+            Response response = new Response();
+            response.setError(Error.SYSTEM_ERROR.getCode(), slot.error);
+            apiLog.setApiResult(Constant.RESULT_FAIL);
+            apiLog.setResponseBody(JsonTool.toString(response));
+        } else {
+            if (slot.result instanceof Response) {
+                apiLog.setResponseBody(JsonTool.toString(slot.result));
+            }
+            apiLog.setApiResult(Constant.RESULT_SUCCESS);
+        }
+        apiLog.setElapsedTime(slot.elapsedTime);
+
+        // 중간 String 없이 batch 버퍼에 바로 직렬화 (실패하면 이번 항목만 잘라냄)
+        StringBuffer buffer = batch.getBuffer();
+        int start = buffer.length();
+        if (start > 0) {
+            buffer.append('\n');
+        }
+        buffer.append(name).append(": ");
+        try {
+            JsonTool.write(batch, apiLog);
+        } catch (IOException e) {
+            buffer.setLength(start);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(StringWriter batch, int count) {
+        log.info("{}", batch);
+        written.add(count);
+        StringBuffer buffer = batch.getBuffer();
+        buffer.setLength(0);
+        // 큰 응답 한 번 때문에 늘어난 버퍼는 돌려줌
+        if (buffer.capacity() > MAX_RETAINED) {
+            buffer.trimToSize();
+        }
+    }
+
+    // ring buffer 한 칸 (생성 후 재사용)
+    private static class Slot {
+        // 공개된 순번 (이 값이 읽을 순번과 같으면 채워진 것)
+        private volatile long sequence;
+        private long timestamp;
+        private String remoteAddress;
+        private String method;
+        private String url;
+        private String requestParams;
+        private Signature signature;
+        private Object[] args;
+        private Object result;
+        private String error;
+        private long elapsedTime;
+
+        void clear() {
+            signature = null;
+            args = null;
+            result = null;
+            remoteAddress = null;
+            method = null;
+            url = null;
+            requestParams = null;
+            error = null;
+        }
+    }
+}
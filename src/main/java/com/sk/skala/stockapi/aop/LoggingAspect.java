@@ -28,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LoggingAspect {
 	private final ApplicationProperties applicationProperties;
+	private final ApiLogPipeline apiLogPipeline;
 
 	@Around("@annotation(org.springframework.web.bind.annotation.GetMapping) ||"
 			+ " @annotation(org.springframework.web.bind.annotation.PostMapping) ||"
@@ -38,6 +39,9 @@ public class LoggingAspect {
 		if (isSkipLogging(joinPoint)) {
 			return joinPoint.proceed();
 		}
+		if (apiLogPipeline.isEnabled()) {
+			return logAsync(joinPoint);
+		}
 
 		ApiLog apiLog = new ApiLog();
 		apiLog.setTimestamp(System.currentTimeMillis());
@@ -81,6 +85,32 @@ public class LoggingAspect {
 		}
 	}
 
+	// 요청 스레드에서는 값/참조만 모으고 직렬화와 기록은 ApiLogPipeline 소비 스레드에서
+	private Object logAsync(ProceedingJoinPoint joinPoint) throws Throwable {
+		long timestamp = System.currentTimeMillis();
+		ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+		HttpServletRequest request = attributes.getRequest();
+
+		String contentType = request.getContentType();
+		Object[] args = contentType != null && Constant.TEXT_TYPES.contains(contentType.toLowerCase())
+				? joinPoint.getArgs()
+				: null;
+
+		Object result = null;
+		String error = null;
+		try {
+			result = joinPoint.proceed();
+			return result;
+		} catch (Exception e) {
+			error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+			throw e;
+		} finally {
+			apiLogPipeline.publish(timestamp, getRemoteAddress(request), request.getMethod(), request.getRequestURI(),
+					request.getQueryString(), joinPoint.getSignature(), args, result, error,
+					System.currentTimeMillis() - timestamp);
+		}
+	}
+
 	private boolean isSkipLogging(ProceedingJoinPoint joinPoint) {
 		try {
 			Method method = getMethodFromJoinPoint(joinPoint);
@@ -3,6 +3,9 @@ package com.sk.skala.stockapi.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Data;
 
 @Configuration
@@ -11,10 +14,154 @@ import lombok.Data;
 public class ApplicationProperties {
 	private String name;
 	private Health health;
+	private Sequencer sequencer = new Sequencer();
+	private Journal journal = new Journal();
+	private Idempotency idempotency = new Idempotency();
+	private AsyncOrder asyncOrder = new AsyncOrder();
+	private Simulator simulator = new Simulator();
+	private Stream stream = new Stream();
+	private Candle candle = new Candle();
+	private StockCache stockCache = new StockCache();
+	private TokenCache tokenCache = new TokenCache();
+	private RateLimit rateLimit = new RateLimit();
+	private ApiLog apiLog = new ApiLog();
+	private Risk risk = new Risk();
+	private BulkImport bulkImport = new BulkImport();
 
 	@Data
 	public static class Health {
 		String url;
 		long timeout;
 	}
+
+	@Data
+	public static class Sequencer {
+		boolean enabled;
+		int lanes;
+		int capacity = 4096;
+		int batchSize = 256;
+		long timeout = 5000;
+	}
+
+	@Data
+	public static class Journal {
+		boolean enabled;
+		boolean replay;
+		String dir = "./data/journal";
+		long segmentSize = 16 * 1024 * 1024;
+		int fsyncBatch = 256;
+		long fsyncInterval = 100;
+	}
+
+	@Data
+	public static class Idempotency {
+		int capacity = 10000;
+		int stripes = 16;
+		long ttl = 10 * 60 * 1000;
+		long timeout = 5000;
+	}
+
+	@Data
+	public static class AsyncOrder {
+		int threads;
+		int capacity = 10000;
+		int retention = 100000;
+	}
+
+	@Data
+	public static class Simulator {
+		boolean enabled;
+		long tickInterval = 100;
+		long flushInterval = 1000;
+		int flushBatchSize = 1000;
+		// 시간당 기대수익률/변동성 (종목별 설정이 없을 때)
+		double drift;
+		double volatility = 0.2;
+		// stockName 별 설정
+		Map<String, Model> stocks = new HashMap<>();
+
+		@Data
+		public static class Model {
+			Double drift;
+			Double volatility;
+		}
+	}
+
+	@Data
+	public static class Stream {
+		long interval = 100;
+		long heartbeat = 15000;
+		int senders = 4;
+		// SSE 연결 타임아웃 (0 이면 없음)
+		long timeout;
+	}
+
+	@Data
+	public static class Candle {
+		// 종목 x 주기당 보관 봉 수
+		int capacity = 500;
+		boolean archive;
+		String archiveDir = "./data/candles";
+		int archiveBuffer = 1024;
+	}
+
+	@Data
+	public static class StockCache {
+		int capacity = 10000;
+		int stripes = 16;
+	}
+
+	@Data
+	public static class TokenCache {
+		int capacity = 10000;
+		int stripes = 16;
+	}
+
+	@Data
+	public static class RateLimit {
+		boolean enabled = true;
+		// 초당 허용 건수 / 버스트 (rate 0 이면 해당 기준 제한 없음)
+		int playerRate = 20;
+		int playerBurst = 40;
+		int ipRate = 100;
+		int ipBurst = 200;
+		int shards = 16;
+		// 이 시간(ms) 동안 안 쓴 버킷은 제거
+		long idleTimeout = 60000;
+	}
+
+	@Data
+	public static class ApiLog {
+		// false 면 요청 스레드에서 바로 기록
+		boolean async = true;
+		// ring buffer 크기 (2 의 거듭제곱으로 올림), 가득 차면 버림
+		int bufferSize = 8192;
+		// 한 번에 기록하는 최대 건수
+		int batchSize = 256;
+		// 쌓인 로그가 없을 때 소비 스레드 대기 시간 (ms)
+		long idleWait = 10;
+	}
+
+	@Data
+	public static class Risk {
+		int paths = 100000;
+		double confidence = 0.99;
+		int horizonDays = 1;
+		// 변동성/상관계수 추정에 쓰는 캔들 주기와 구간 수
+		String interval = "1m";
+		int history = 240;
+		// 0 이면 공용 ForkJoinPool
+		int parallelism = 0;
+		boolean batchEnabled = true;
+		String batchTime = "03:00";
+		int batchPaths = 10000;
+	}
+
+	@Data
+	public static class BulkImport {
+		// 배치 INSERT 한 번(트랜잭션 하나)에 넣는 행 수
+		int chunkSize = 1000;
+		// 응답에 담는 실패 행 최대 건수
+		int maxErrors = 1000;
+	}
 }
@@ -15,6 +15,7 @@ public class Constant {
 	public static final String PROFILE_PRODUCT = "prd";
 
 	public static final String X_BFF_USER = "X-Bff-User";
+	public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
 	public static final String JWT_ACCESS_COOKIE = "bff-access";
 	public static final int JWT_ACCESS_TTL = 60 * 60; // 1 hour
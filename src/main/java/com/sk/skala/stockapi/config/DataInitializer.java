@@ -6,22 +6,38 @@ import org.springframework.context.annotation.Configuration;
 
 import com.sk.skala.stockapi.data.table.Player;
 import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.journal.JournalRecord;
+import com.sk.skala.stockapi.journal.TradeJournal;
 import com.sk.skala.stockapi.repository.PlayerRepository;
 import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
 
 @Configuration
 public class DataInitializer {
 
 	@Bean
-	CommandLineRunner initStocks(StockRepository stockRepository, PlayerRepository playerRepository) {
+	CommandLineRunner initStocks(StockRepository stockRepository, PlayerRepository playerRepository,
+			TradeJournal tradeJournal) {
+		// 파일 DB 는 재기동해도 남아 있으므로 없는 데이터만 생성 (기존 잔액을 덮어쓰거나 저널에 잔액 기록을 또 남기지 않음)
 		return args -> {
-			stockRepository.save(new Stock("TechCorp", 100.00));
-			stockRepository.save(new Stock("GreenEnergy", 80.00));
-			stockRepository.save(new Stock("HealthPlus", 120.00));
-			stockRepository.save(new Stock("SkalaEdu", 150.00));
+			seedStock(stockRepository, "TechCorp", 100);
+			seedStock(stockRepository, "GreenEnergy", 80);
+			seedStock(stockRepository, "HealthPlus", 120);
+			seedStock(stockRepository, "SkalaEdu", 150);
 
-			playerRepository.save(new Player("Skala.Man", 10000.0));
-			playerRepository.save(new Player("Smart.Woman", 10000.0));
+			for (String playerId : new String[] { "Skala.Man", "Smart.Woman" }) {
+				if (playerRepository.existsById(playerId)) {
+					continue;
+				}
+				playerRepository.save(new Player(playerId, MoneyTool.of(10000)));
+				tradeJournal.append(JournalRecord.balance(playerId, MoneyTool.of(10000)));
+			}
 		};
 	}
+
+	private void seedStock(StockRepository stockRepository, String stockName, long price) {
+		if (stockRepository.findByStockName(stockName).isEmpty()) {
+			stockRepository.save(new Stock(stockName, MoneyTool.of(price)));
+		}
+	}
 }
@@ -17,6 +17,8 @@ public enum Error {
 
 	INSUFFICIENT_FUNDS(9101, "INSUFFICIENT_FUNDS"),
 	INSUFFICIENT_QUANTITY(9102, "INSUFFICIENT_QUANTITY"),
+	ORDER_QUEUE_FULL(9103, "ORDER_QUEUE_FULL"),
+	RATE_LIMITED(9104, "RATE_LIMITED"),
 
 	UNDEFINED_ERROR(9999, "UNDEFINED_ERROR");
 	
@@ -0,0 +1,34 @@
+package com.sk.skala.stockapi.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
+import com.sk.skala.stockapi.service.RateLimiter;
+import com.sk.skala.stockapi.service.SessionContext;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 API 요청 수 제한 (조회 GET 은 제외).
+ * - 플레이어는 SessionFilter 가 설정한 값 (비로그인/인증 실패면 IP 기준만)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+	private final RateLimiter rateLimiter;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if ("GET".equals(request.getMethod())) {
+			return true;
+		}
+		Object identity = request.getAttribute(SessionContext.ATTRIBUTE);
+		String playerId = identity instanceof PlayerIdentity ? ((PlayerIdentity) identity).getPlayerId() : null;
+		rateLimiter.acquire(playerId, request.getRemoteAddr());
+		return true;
+	}
+}
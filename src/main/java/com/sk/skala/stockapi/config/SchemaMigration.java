@@ -0,0 +1,64 @@
+package com.sk.skala.stockapi.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate ddl-auto(update) 보다 먼저 실행하는 스키마 변환.
+ * - 금액 컬럼 고정소수점 전환: player.player_money, stock.stock_price (DOUBLE)
+ *   → player_money_micros, stock_price_micros (BIGINT, MoneyTool.SCALE 단위)
+ * - 기존 컬럼이 있을 때만 새 컬럼 추가 → 값 변환 → 기존 컬럼 삭제 (중간에 멈춰도 다시 실행하면 이어서 처리)
+ * - 새 DB 나 이미 전환된 DB 에서는 아무것도 하지 않음
+ */
+@Configuration
+@Slf4j
+public class SchemaMigration {
+
+	private static final String[][] MONEY_COLUMNS = {
+			{ "player", "player_money", "player_money_micros" },
+			{ "stock", "stock_price", "stock_price_micros" } };
+
+	// EntityManagerFactory(스키마 update) 생성 전에 moneyColumnMigration 실행
+	@Bean
+	static EntityManagerFactoryDependsOnPostProcessor schemaMigrationDependency() {
+		return new EntityManagerFactoryDependsOnPostProcessor("moneyColumnMigration");
+	}
+
+	@Bean
+	InitializingBean moneyColumnMigration(DataSource dataSource) {
+		return () -> migrate(new JdbcTemplate(dataSource));
+	}
+
+	static void migrate(JdbcTemplate jdbcTemplate) {
+		for (String[] column : MONEY_COLUMNS) {
+			String table = column[0];
+			String from = column[1];
+			String to = column[2];
+			if (!hasColumn(jdbcTemplate, table, from)) {
+				continue;
+			}
+
+			jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + to + " BIGINT DEFAULT 0 NOT NULL");
+			int rows = jdbcTemplate.update("UPDATE " + table + " SET " + to + " = CAST(ROUND(" + from + " * "
+					+ MoneyTool.SCALE + ") AS BIGINT) WHERE " + from + " IS NOT NULL");
+			jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN " + from);
+			log.info("SchemaMigration: {}.{} -> {} ({} rows)", table, from, to, rows);
+		}
+	}
+
+	private static boolean hasColumn(JdbcTemplate jdbcTemplate, String table, String column) {
+		Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS"
+				+ " WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND UPPER(TABLE_NAME) = ? AND UPPER(COLUMN_NAME) = ?",
+				Integer.class, table.toUpperCase(), column.toUpperCase());
+		return count != null && count > 0;
+	}
+}
@@ -0,0 +1,47 @@
+package com.sk.skala.stockapi.config;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
+import com.sk.skala.stockapi.service.SessionContext;
+import com.sk.skala.stockapi.service.SessionHandler;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청마다 access 쿠키를 한 번만 검증해서 요청 속성 + SessionContext 에 설정.
+ * - 인증 실패해도 요청은 그대로 진행 (세션이 필요한 API 에서만 에러)
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionFilter extends OncePerRequestFilter {
+
+	private final SessionHandler sessionHandler;
+
+	@Override
+	@SuppressWarnings("try")
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		PlayerIdentity identity = null;
+		RuntimeException error = null;
+		try {
+			identity = sessionHandler.authenticate(request);
+		} catch (RuntimeException e) {
+			error = e;
+		}
+		if (identity != null) {
+			request.setAttribute(SessionContext.ATTRIBUTE, identity);
+		}
+
+		try (SessionContext.Scope ignored = SessionContext.open(identity, error)) {
+			filterChain.doFilter(request, response);
+		}
+	}
+}
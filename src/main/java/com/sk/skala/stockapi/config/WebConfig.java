@@ -1,14 +1,37 @@
 package com.sk.skala.stockapi.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.sk.skala.stockapi.service.SessionContext;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+	private final RateLimitInterceptor rateLimitInterceptor;
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/**").allowedMethods("*").allowedOrigins("*");
 	}
-}
\ No newline at end of file
+
+	// 주문 API 요청 수 제한
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/players/buy", "/api/players/sell",
+				"/api/players/orders", "/api/players/orders/**");
+	}
+
+	// 스프링 기본 TaskExecutor(@Async, MVC 비동기 처리)로 넘긴 작업에 로그인 플레이어 전파
+	@Bean
+	TaskDecorator sessionTaskDecorator() {
+		return SessionContext::wrap;
+	}
+}
@@ -1,22 +1,35 @@
 package com.sk.skala.stockapi.controller;
 
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import com.sk.skala.stockapi.aop.SkipLogging;
+import com.sk.skala.stockapi.config.Constant;
 import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.OrderBatch;
 import com.sk.skala.stockapi.data.dto.PlayerSession;
 import com.sk.skala.stockapi.data.dto.StockOrder;
 import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.service.ExportService;
+import com.sk.skala.stockapi.service.ImportService;
 import com.sk.skala.stockapi.service.PlayerService;
+import com.sk.skala.stockapi.service.RiskService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,18 +39,94 @@ import lombok.RequiredArgsConstructor;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final RiskService riskService;
+    private final ExportService exportService;
+    private final ImportService importService;
 
     // =========================
     // 전체 플레이어 목록 조회
-    // GET /api/players/list?offset=0&count=10
+    // GET /api/players/list?offset=0&count=10 (offset 은 페이지 번호)
+    // GET /api/players/list?limit=10&after=<next> (커서 모드, COUNT 쿼리 없음)
     // =========================
     @GetMapping("/list")
     public Response getAllPlayers(
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "10") int count) {
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        if (after != null || limit != null) {
+            return playerService.getPlayersAfter(after, limit != null ? limit : count);
+        }
         return playerService.getAllPlayers(offset, count);
     }
 
+    // =========================
+    // 전체 플레이어/보유 내역 내보내기 (응답으로 바로 스트리밍)
+    // GET /api/players/export?format=ndjson|csv&holdings=false
+    // =========================
+    @SkipLogging
+    @GetMapping("/export")
+    public void exportPlayers(@RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean holdings, HttpServletResponse response) throws IOException {
+        exportService.exportPlayers(format, holdings, response);
+    }
+
+    // =========================
+    // 플레이어 대량 가져오기 (본문을 한 행씩 읽어서 배치 INSERT, 행별 실패 보고)
+    // POST /api/players/import?format=ndjson|csv
+    // =========================
+    @SkipLogging
+    @PostMapping("/import")
+    public Response importPlayers(@RequestParam(defaultValue = "ndjson") String format, HttpServletRequest request)
+            throws IOException {
+        return importService.importPlayers(format, request.getInputStream());
+    }
+
+    // =========================
+    // 순자산 순위표
+    // GET /api/players/leaderboard?top=100
+    // =========================
+    @GetMapping("/leaderboard")
+    public Response getLeaderboard(@RequestParam(defaultValue = "100") int top) {
+        return playerService.getLeaderboard(top);
+    }
+
+    // =========================
+    // 플레이어 순위
+    // GET /api/players/{playerId}/rank
+    // =========================
+    @GetMapping("/{playerId}/rank")
+    public Response getRanking(@PathVariable String playerId) {
+        return playerService.getRanking(playerId);
+    }
+
+    // =========================
+    // 포트폴리오 평가 (현금, 종목별 평가액, 총자산, 평가 손익)
+    // GET /api/players/{playerId}/portfolio
+    // =========================
+    @GetMapping("/{playerId}/portfolio")
+    public Response getPortfolio(@PathVariable String playerId) {
+        return playerService.getPortfolio(playerId);
+    }
+
+    // =========================
+    // 1 일 VaR / Expected Shortfall (몬테카를로)
+    // GET /api/players/{playerId}/risk
+    // =========================
+    @GetMapping("/{playerId}/risk")
+    public Response getRisk(@PathVariable String playerId) {
+        return riskService.getRisk(playerId);
+    }
+
+    // =========================
+    // 마지막 야간 배치 VaR
+    // GET /api/players/{playerId}/risk/batch
+    // =========================
+    @GetMapping("/{playerId}/risk/batch")
+    public Response getBatchRisk(@PathVariable String playerId) {
+        return riskService.getBatchRisk(playerId);
+    }
+
     // =========================
     // 단일 플레이어 조회 + 보유 주식
     // GET /api/players/{playerId}
@@ -65,6 +154,15 @@ public class PlayerController {
         return playerService.loginPlayer(playerSession);
     }
 
+    // =========================
+    // 플레이어 로그아웃
+    // POST /api/players/logout
+    // =========================
+    @PostMapping("/logout")
+    public Response logoutPlayer() {
+        return playerService.logoutPlayer();
+    }
+
     // =========================
     // 플레이어 정보 수정
     // PUT /api/players
@@ -85,20 +183,61 @@ public class PlayerController {
 
     // =========================
     // 주식 매수
-    // POST /api/players/buy
+    // POST /api/players/buy (Idempotency-Key 헤더 선택)
     // =========================
     @PostMapping("/buy")
-    public Response buyPlayerStock(@Valid @RequestBody StockOrder order) {
-        return playerService.buyPlayerStock(order);
+    public Response buyPlayerStock(@Valid @RequestBody StockOrder order,
+            @RequestHeader(name = Constant.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return playerService.buyPlayerStock(order, idempotencyKey);
     }
 
     // =========================
     // 주식 매도
-    // POST /api/players/sell
+    // POST /api/players/sell (Idempotency-Key 헤더 선택)
     // =========================
     @PostMapping("/sell")
-    public Response sellPlayerStock(@Valid @RequestBody StockOrder order) {
-        return playerService.sellPlayerStock(order);
+    public Response sellPlayerStock(@Valid @RequestBody StockOrder order,
+            @RequestHeader(name = Constant.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return playerService.sellPlayerStock(order, idempotencyKey);
+    }
+
+    // =========================
+    // 배치 주문 (매수/매도 혼합, 주문별 결과 반환)
+    // POST /api/players/orders/batch (Idempotency-Key 헤더 선택)
+    // =========================
+    @PostMapping("/orders/batch")
+    public Response placeOrderBatch(@Valid @RequestBody OrderBatch batch,
+            @RequestHeader(name = Constant.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return playerService.placeOrderBatch(batch, idempotencyKey);
+    }
+
+    // =========================
+    // 비동기 주문 접수 (side 필수, 202 + 주문번호 반환 후 백그라운드 실행)
+    // POST /api/players/orders (Idempotency-Key 헤더 선택)
+    // =========================
+    @PostMapping("/orders")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Response acceptOrder(@Valid @RequestBody StockOrder order,
+            @RequestHeader(name = Constant.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return playerService.acceptOrder(order, idempotencyKey);
+    }
+
+    // =========================
+    // 주문 상태/체결 내역 조회
+    // GET /api/players/orders/{orderId}
+    // =========================
+    @GetMapping("/orders/{orderId}")
+    public Response getOrder(@PathVariable Long orderId) {
+        return playerService.getOrder(orderId);
+    }
+
+    // =========================
+    // 대기 중인 지정가 주문 취소
+    // DELETE /api/players/orders/{orderId}
+    // =========================
+    @DeleteMapping("/orders/{orderId}")
+    public Response cancelOrder(@PathVariable Long orderId) {
+        return playerService.cancelOrder(orderId);
     }
 // =========================
 // @Valid 테스트용 (세션 없이 검증만 확인)
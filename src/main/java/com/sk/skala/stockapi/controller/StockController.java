@@ -1,5 +1,9 @@
 package com.sk.skala.stockapi.controller;
 
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,11 +13,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.sk.skala.stockapi.aop.SkipLogging;
 import com.sk.skala.stockapi.data.common.Response;
 import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.service.ExportService;
+import com.sk.skala.stockapi.service.ImportService;
 import com.sk.skala.stockapi.service.StockService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -22,16 +32,50 @@ import lombok.RequiredArgsConstructor;
 public class StockController {
 
     private final StockService stockService;
+    private final ExportService exportService;
+    private final ImportService importService;
 
     // 전체 주식 목록 조회 API
-    // GET /api/stocks?offset=0&count=10
+    // GET /api/stocks?offset=0&count=10 (offset 은 페이지 번호)
+    // GET /api/stocks?limit=10&after=<next> (커서 모드, COUNT 쿼리 없음)
     @GetMapping("")
     public Response getAllStocks(
             @RequestParam(defaultValue = "0") Integer offset,
-            @RequestParam(defaultValue = "10") Integer count) {
+            @RequestParam(defaultValue = "10") Integer count,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        if (after != null || limit != null) {
+            return stockService.getStocksAfter(after, limit != null ? limit : count);
+        }
         return stockService.getAllStocks(offset, count);
     }
 
+    // 전체 종목 내보내기 (응답으로 바로 스트리밍)
+    // GET /api/stocks/export?format=ndjson|csv
+    @SkipLogging
+    @GetMapping("/export")
+    public void exportStocks(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        exportService.exportStocks(format, response);
+    }
+
+    // 종목 대량 가져오기 (본문을 한 행씩 읽어서 배치 INSERT, 행별 실패 보고)
+    // POST /api/stocks/import?format=ndjson|csv
+    @SkipLogging
+    @PostMapping("/import")
+    public Response importStocks(@RequestParam(defaultValue = "ndjson") String format, HttpServletRequest request)
+            throws IOException {
+        return importService.importStocks(format, request.getInputStream());
+    }
+
+    // 시세 스트림 (SSE, "prices" 이벤트로 바뀐 종목 가격 배열 전송)
+    // GET /api/stocks/stream?stockIds=1,2
+    @SkipLogging
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPrices(@RequestParam(required = false) List<Long> stockIds) {
+        return stockService.streamPrices(stockIds);
+    }
+
     // 개별 주식 상세 조회 API
     // GET /api/stocks/{id}
     @GetMapping("/{id}")
@@ -39,6 +83,15 @@ public class StockController {
         return stockService.getStockById(id);
     }
 
+    // 캔들(OHLCV) 조회 API (interval: 1s, 1m, 5m, 1h)
+    // GET /api/stocks/{id}/candles?interval=1m&limit=500
+    @GetMapping("/{id}/candles")
+    public Response getCandles(@PathVariable Long id,
+            @RequestParam(defaultValue = "1m") String interval,
+            @RequestParam(defaultValue = "500") Integer limit) {
+        return stockService.getCandles(id, interval, limit);
+    }
+
     // 주식 등록 API
     // POST /api/stocks
     @PostMapping("")
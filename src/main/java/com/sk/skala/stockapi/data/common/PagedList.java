@@ -4,8 +4,12 @@ import lombok.Data;
 
 @Data
 public class PagedList {
+	// 커서 모드에서는 세지 않음 (-1)
 	private long total;
 	private long count;
+	// 첫 항목의 행 위치 (커서 모드에서는 0)
 	private long offset;
 	private Object list;
+	// 다음 페이지 커서 (?after=), 마지막 페이지면 null
+	private String next;
 }
@@ -0,0 +1,38 @@
+package com.sk.skala.stockapi.data.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.Data;
+
+// 캔들 목록 (봉별 객체 대신 항목별 배열, 오래된 순)
+@Data
+public class CandleList {
+
+    private Long stockId;
+    private String interval;
+    private int count;
+    // 구간 시작 시각 (epoch millis)
+    private long[] time;
+    @JsonSerialize(using = MoneyTool.ArraySerializer.class)
+    private long[] open;
+    @JsonSerialize(using = MoneyTool.ArraySerializer.class)
+    private long[] high;
+    @JsonSerialize(using = MoneyTool.ArraySerializer.class)
+    private long[] low;
+    @JsonSerialize(using = MoneyTool.ArraySerializer.class)
+    private long[] close;
+    private long[] volume;
+
+    public CandleList(Long stockId, String interval, int count) {
+        this.stockId = stockId;
+        this.interval = interval;
+        this.count = count;
+        this.time = new long[count];
+        this.open = new long[count];
+        this.high = new long[count];
+        this.low = new long[count];
+        this.close = new long[count];
+        this.volume = new long[count];
+    }
+}
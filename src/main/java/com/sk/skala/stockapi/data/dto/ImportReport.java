@@ -0,0 +1,28 @@
+package com.sk.skala.stockapi.data.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class ImportReport {
+
+    // 본문에서 읽은 행 수 (CSV 헤더, 빈 줄 제외)
+    private long total;
+    private long imported;
+    private long failed;
+    // 실패한 행 (최대 application.bulk-import.max-errors 건, 넘치면 truncated)
+    private List<RowError> errors = new ArrayList<>();
+    private boolean truncated;
+
+    @Data
+    public static class RowError {
+        // 1 부터 시작하는 데이터 행 번호
+        private long row;
+        // playerId / stockName (읽지 못한 행이면 null)
+        private String key;
+        private int code;
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sk.skala.stockapi.data.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class OrderBatch {
+
+    @NotEmpty(message = "orders는 필수입니다.")
+    @Size(max = 1000, message = "orders는 1000건 이하여야 합니다.")
+    private List<@Valid StockOrder> orders;
+}
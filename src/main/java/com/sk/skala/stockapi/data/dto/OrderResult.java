@@ -0,0 +1,36 @@
+package com.sk.skala.stockapi.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.Data;
+
+@Data
+public class OrderResult {
+
+    public enum Status {
+        ACCEPTED,
+        REJECTED,
+        FILLED,
+        PARTIALLY_FILLED,
+        RESTING,
+        CANCELLED
+    }
+
+    private Long orderId;
+    private Long stockId;
+    private OrderSide side;
+    private StockOrder.OrderType orderType;
+    private Status status;
+    private int filledQuantity;
+    private int remainingQuantity;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private Long averagePrice;
+    // 체결 금액 합계 (정산 값 그대로, 평균가 * 수량으로 다시 계산하면 나눗셈 절사 오차가 생김)
+    @JsonIgnore
+    private long notional;
+    // REJECTED 사유
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.sk.skala.stockapi.data.dto;
+
+/**
+ * 인증된 요청의 플레이어 (불변, 요청 스레드 밖으로 넘겨도 안전).
+ */
+public final class PlayerIdentity {
+
+    private final String playerId;
+    // 토큰 만료 시각 (epoch millis)
+    private final long expiresAt;
+
+    public PlayerIdentity(String playerId, long expiresAt) {
+        this.playerId = playerId;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerIdentity(playerId=" + playerId + ")";
+    }
+}
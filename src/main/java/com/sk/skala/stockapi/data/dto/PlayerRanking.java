@@ -0,0 +1,19 @@
+package com.sk.skala.stockapi.data.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.Data;
+
+@Data
+public class PlayerRanking {
+
+    // 1 부터 시작
+    private int rank;
+    private String playerId;
+    // 현금 + 보유 주식 평가액
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long netWorth;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long playerMoney;
+}
@@ -1,16 +1,40 @@
 package com.sk.skala.stockapi.data.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
 public class PlayerStockDto {
 
     private Long stockId;
     private String stockName;
-    private Double stockPrice;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long stockPrice;
     private Integer quantity;
+    // 평균 매입 단가 (보유 수량이 0 이면 0)
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long averagePrice;
+    // 남은 수량의 매입 원가 합계
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long costBasis;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long realizedPnl;
 
     // 기본 생성자
     public PlayerStockDto() {
     }
 
+    // JPQL 프로젝션용 (PlayerStockRepository.findDtoByPlayerId)
+    public PlayerStockDto(Long stockId, String stockName, long stockPrice, Integer quantity, long costBasis,
+            long realizedPnl) {
+        this.stockId = stockId;
+        this.stockName = stockName;
+        this.stockPrice = stockPrice;
+        this.quantity = quantity;
+        this.averagePrice = quantity != null && quantity > 0 ? costBasis / quantity : 0;
+        this.costBasis = costBasis;
+        this.realizedPnl = realizedPnl;
+    }
+
     // Getter / Setter
     public Long getStockId() {
         return stockId;
@@ -28,11 +52,11 @@ public class PlayerStockDto {
         this.stockName = stockName;
     }
 
-    public Double getStockPrice() {
+    public long getStockPrice() {
         return stockPrice;
     }
 
-    public void setStockPrice(Double stockPrice) {
+    public void setStockPrice(long stockPrice) {
         this.stockPrice = stockPrice;
     }
 
@@ -44,6 +68,30 @@ public class PlayerStockDto {
         this.quantity = quantity;
     }
 
+    public long getAveragePrice() {
+        return averagePrice;
+    }
+
+    public void setAveragePrice(long averagePrice) {
+        this.averagePrice = averagePrice;
+    }
+
+    public long getCostBasis() {
+        return costBasis;
+    }
+
+    public void setCostBasis(long costBasis) {
+        this.costBasis = costBasis;
+    }
+
+    public long getRealizedPnl() {
+        return realizedPnl;
+    }
+
+    public void setRealizedPnl(long realizedPnl) {
+        this.realizedPnl = realizedPnl;
+    }
+
     // ===== Builder 패턴 =====
     public static Builder builder() {
         return new Builder();
@@ -62,7 +110,7 @@ public class PlayerStockDto {
             return this;
         }
 
-        public Builder stockPrice(Double stockPrice) {
+        public Builder stockPrice(long stockPrice) {
             dto.stockPrice = stockPrice;
             return this;
         }
@@ -72,6 +120,21 @@ public class PlayerStockDto {
             return this;
         }
 
+        public Builder averagePrice(long averagePrice) {
+            dto.averagePrice = averagePrice;
+            return this;
+        }
+
+        public Builder costBasis(long costBasis) {
+            dto.costBasis = costBasis;
+            return this;
+        }
+
+        public Builder realizedPnl(long realizedPnl) {
+            dto.realizedPnl = realizedPnl;
+            return this;
+        }
+
         public PlayerStockDto build() {
             return dto;
         }
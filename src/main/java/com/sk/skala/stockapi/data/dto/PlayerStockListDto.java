@@ -2,10 +2,14 @@ package com.sk.skala.stockapi.data.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
 public class PlayerStockListDto {
 
     private String playerId;
-    private Double playerMoney;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long playerMoney;
     private List<PlayerStockDto> stocks;
 
     // 기본 생성자
@@ -21,11 +25,11 @@ public class PlayerStockListDto {
         this.playerId = playerId;
     }
 
-    public Double getPlayerMoney() {
+    public long getPlayerMoney() {
         return playerMoney;
     }
 
-    public void setPlayerMoney(Double playerMoney) {
+    public void setPlayerMoney(long playerMoney) {
         this.playerMoney = playerMoney;
     }
 
@@ -50,7 +54,7 @@ public class PlayerStockListDto {
             return this;
         }
 
-        public Builder playerMoney(Double playerMoney) {
+        public Builder playerMoney(long playerMoney) {
             dto.playerMoney = playerMoney;
             return this;
         }
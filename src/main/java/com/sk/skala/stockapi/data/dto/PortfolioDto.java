@@ -0,0 +1,43 @@
+package com.sk.skala.stockapi.data.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.Data;
+
+@Data
+public class PortfolioDto {
+
+    private String playerId;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long playerMoney;
+    // 보유 주식 평가액 합계
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long marketValue;
+    // 현금 + 평가액
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long equity;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long costBasis;
+    // 평가액 - 매입 원가
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long unrealizedPnl;
+    private List<Holding> holdings;
+
+    @Data
+    public static class Holding {
+        private Long stockId;
+        private String stockName;
+        private int quantity;
+        @JsonSerialize(using = MoneyTool.Serializer.class)
+        private long stockPrice;
+        @JsonSerialize(using = MoneyTool.Serializer.class)
+        private long marketValue;
+        @JsonSerialize(using = MoneyTool.Serializer.class)
+        private long costBasis;
+        @JsonSerialize(using = MoneyTool.Serializer.class)
+        private long unrealizedPnl;
+    }
+}
@@ -0,0 +1,28 @@
+package com.sk.skala.stockapi.data.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.Data;
+
+@Data
+public class RiskReport {
+
+    private String playerId;
+    private double confidence;
+    private int horizonDays;
+    private int paths;
+    // 평가에 포함된 보유 종목 수
+    private int holdings;
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long portfolioValue;
+    // confidence 수준 손실 (이익이면 음수)
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long valueAtRisk;
+    // VaR 이상 손실의 평균
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long expectedShortfall;
+    // 계산 시각 (epoch millis)
+    private long computedAt;
+    private long elapsedMillis;
+}
@@ -1,5 +1,10 @@
 package com.sk.skala.stockapi.data.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,6 +13,11 @@ import lombok.Data;
 @Data
 public class StockOrder {
 
+    public enum OrderType {
+        MARKET,
+        LIMIT
+    }
+
     @NotBlank(message = "playerId는 필수입니다.")
     private String playerId;
 
@@ -18,4 +28,16 @@ public class StockOrder {
     @NotNull(message = "stockQuantity는 필수입니다.")
     @Min(value = 1, message = "stockQuantity는 1 이상이어야 합니다.")
     private Integer stockQuantity;
+
+    // 미지정 시 MARKET (현재가 즉시 체결)
+    private OrderType orderType;
+
+    // LIMIT 주문에서만 사용 (고정소수점, MoneyTool.SCALE 단위)
+    @Min(value = 1, message = "limitPrice는 0보다 커야 합니다.")
+    @JsonDeserialize(using = MoneyTool.Deserializer.class)
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private Long limitPrice;
+
+    // 배치 주문에서만 사용 (buy/sell API는 경로로 구분)
+    private OrderSide side;
 }
@@ -1,7 +1,13 @@
 package com.sk.skala.stockapi.data.table;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Transient;
 
 @Entity
 public class Player {
@@ -10,14 +16,23 @@ public class Player {
     private String playerId;
 
     private String playerPassword;
-    private Double playerMoney;
+
+    // 고정소수점 금액 (MoneyTool.SCALE 단위)
+    @Column(name = "player_money_micros")
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    @JsonDeserialize(using = MoneyTool.Deserializer.class)
+    private long playerMoney;
+
+    // 요청 본문에 playerMoney 가 있었는지 (부분 수정용, 저장 안 함)
+    @Transient
+    private boolean playerMoneySet;
 
     // JPA 기본 생성자
     protected Player() {
     }
 
     // 플레이어 ID + 초기 투자금 생성자
-    public Player(String playerId, Double playerMoney) {
+    public Player(String playerId, long playerMoney) {
         this.playerId = playerId;
         this.playerMoney = playerMoney;
     }
@@ -39,11 +54,16 @@ public class Player {
         this.playerPassword = playerPassword;
     }
 
-    public Double getPlayerMoney() {
+    public long getPlayerMoney() {
         return playerMoney;
     }
 
-    public void setPlayerMoney(Double playerMoney) {
+    public void setPlayerMoney(long playerMoney) {
         this.playerMoney = playerMoney;
+        this.playerMoneySet = true;
+    }
+
+    public boolean hasPlayerMoney() {
+        return playerMoneySet;
     }
 }
@@ -1,5 +1,11 @@
 package com.sk.skala.stockapi.data.table;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -7,8 +13,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
+// 플레이어-종목당 보유 내역은 1건 (수량 upsert 기준)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = { "player_id", "stock_id" }))
 public class PlayerStock {
 
     @Id
@@ -27,6 +37,18 @@ public class PlayerStock {
 
     private Integer quantity;
 
+    // 남은 수량의 매입 원가 합계 (평균 단가 방식, MoneyTool 단위)
+    @Column(name = "cost_basis_micros", nullable = false)
+    @ColumnDefault("0")
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long costBasis;
+
+    // 누적 실현 손익 (매도 금액 - 매도분 원가), 수량이 0 이 돼도 행을 남겨 보존
+    @Column(name = "realized_pnl_micros", nullable = false)
+    @ColumnDefault("0")
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    private long realizedPnl;
+
     // JPA 기본 생성자
     protected PlayerStock() {
     }
@@ -66,4 +88,20 @@ public class PlayerStock {
     public void setQuantity(Integer quantity) {
         this.quantity = quantity;
     }
+
+    public long getCostBasis() {
+        return costBasis;
+    }
+
+    public void setCostBasis(long costBasis) {
+        this.costBasis = costBasis;
+    }
+
+    public long getRealizedPnl() {
+        return realizedPnl;
+    }
+
+    public void setRealizedPnl(long realizedPnl) {
+        this.realizedPnl = realizedPnl;
+    }
 }
@@ -1,5 +1,10 @@
 package com.sk.skala.stockapi.data.table;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -13,14 +18,26 @@ public class Stock {
     private Long id;
 
     private String stockName;
-    private Double stockPrice;
+
+    // 고정소수점 가격 (MoneyTool.SCALE 단위)
+    @Column(name = "stock_price_micros")
+    @JsonSerialize(using = MoneyTool.Serializer.class)
+    @JsonDeserialize(using = MoneyTool.Deserializer.class)
+    private long stockPrice;
 
     // JPA가 객체 생성할 때 필요 (기본 생성자 필수)
     protected Stock() {
     }
 
     // stockName, stockPrice 받는 생성자
-    public Stock(String stockName, Double stockPrice) {
+    public Stock(String stockName, long stockPrice) {
+        this.stockName = stockName;
+        this.stockPrice = stockPrice;
+    }
+
+    // id 까지 지정 (캐시 복사본용)
+    public Stock(Long id, String stockName, long stockPrice) {
+        this.id = id;
         this.stockName = stockName;
         this.stockPrice = stockPrice;
     }
@@ -38,11 +55,11 @@ public class Stock {
         this.stockName = stockName;
     }
 
-    public Double getStockPrice() {
+    public long getStockPrice() {
         return stockPrice;
     }
 
-    public void setStockPrice(Double stockPrice) {
+    public void setStockPrice(long stockPrice) {
         this.stockPrice = stockPrice;
     }
 }
@@ -0,0 +1,28 @@
+package com.sk.skala.stockapi.engine;
+
+// 대기 주문(maker) 한 건에 대한 체결 또는 제거 결과
+public class Fill {
+
+    private final RestingOrder maker;
+    private final long price;
+    private final int quantity;
+
+    Fill(RestingOrder maker, long price, int quantity) {
+        this.maker = maker;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    public RestingOrder getMaker() {
+        return maker;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    // 0이면 maker가 결제 불가로 호가창에서 제거된 경우
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,12 @@
+package com.sk.skala.stockapi.engine;
+
+@FunctionalInterface
+public interface FillHandler {
+
+    /**
+     * 체결 직전 호출되어 양쪽 잔고를 반영한다.
+     * - maker가 결제할 수 없으면 false → 해당 대기 주문은 호가창에서 제거
+     * - taker가 결제할 수 없으면 예외를 던져 주문 전체를 취소
+     */
+    boolean onFill(RestingOrder maker, long price, int quantity);
+}
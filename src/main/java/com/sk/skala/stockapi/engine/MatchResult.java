@@ -0,0 +1,42 @@
+package com.sk.skala.stockapi.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+// 호가창 매칭 결과 (commit 전까지 호가창은 변경되지 않음)
+public class MatchResult {
+
+    private final OrderSide side;
+    private final List<Fill> fills = new ArrayList<>();
+    private int filledQuantity;
+    private long notional;
+
+    MatchResult(OrderSide side) {
+        this.side = side;
+    }
+
+    void add(Fill fill) {
+        fills.add(fill);
+        filledQuantity += fill.getQuantity();
+        notional += MoneyTool.multiply(fill.getPrice(), fill.getQuantity());
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public List<Fill> getFills() {
+        return fills;
+    }
+
+    public int getFilledQuantity() {
+        return filledQuantity;
+    }
+
+    // 체결 금액 합계 (MoneyTool 고정소수점)
+    public long getNotional() {
+        return notional;
+    }
+}
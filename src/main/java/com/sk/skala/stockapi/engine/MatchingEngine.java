@@ -0,0 +1,59 @@
+package com.sk.skala.stockapi.engine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목별 호가창을 메모리에 보관하는 매칭 엔진.
+ * - 같은 종목의 주문은 호가창 단위로 직렬화 (종목이 다르면 병렬 처리)
+ * - 가격은 MoneyTool 고정소수점 long 값을 그대로 호가 단위로 사용
+ */
+@Component
+public class MatchingEngine {
+
+    private final Map<Long, OrderBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, OrderBook> orderIndex = new ConcurrentHashMap<>();
+    private final AtomicLong orderIds = new AtomicLong();
+
+    public long nextOrderId() {
+        return orderIds.incrementAndGet();
+    }
+
+    // 종목 호가창을 잠근 상태에서 action 실행
+    public <T> T execute(long stockId, Function<OrderBook, T> action) {
+        OrderBook book = books.computeIfAbsent(stockId, id -> new OrderBook(id, orderIndex));
+        synchronized (book) {
+            return action.apply(book);
+        }
+    }
+
+    // 종목 삭제: 호가창을 떼어내고 대기 주문을 모두 취소 (주문 index 에서도 제거)
+    public void remove(long stockId) {
+        OrderBook book = books.remove(stockId);
+        if (book != null) {
+            synchronized (book) {
+                book.cancelAll();
+            }
+        }
+    }
+
+    // 플레이어 삭제: 모든 종목 호가창에서 그 플레이어의 대기 주문 취소 (취소한 건수)
+    public int cancelAll(String playerId) {
+        int cancelled = 0;
+        for (OrderBook book : books.values()) {
+            synchronized (book) {
+                cancelled += book.cancelAll(playerId).size();
+            }
+        }
+        return cancelled;
+    }
+
+    public Long findStockId(long orderId) {
+        OrderBook book = orderIndex.get(orderId);
+        return book != null ? book.getStockId() : null;
+    }
+}
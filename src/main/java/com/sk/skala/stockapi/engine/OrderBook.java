@@ -0,0 +1,160 @@
+package com.sk.skala.stockapi.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목 하나의 가격/시간 우선 호가창.
+ * - 스레드 안전하지 않음: MatchingEngine이 종목 단위로 직렬화해서 호출
+ * - plan()은 호가창을 변경하지 않고, commit()에서 한 번에 반영
+ * - DB 트랜잭션이 롤백되면 revert()로 commit()을 되돌림
+ */
+public class OrderBook {
+
+    private final long stockId;
+    private final PriceLevels bids = new PriceLevels(true);
+    private final PriceLevels asks = new PriceLevels(false);
+    private final Map<Long, OrderBook> registry;
+    private final Map<Long, RestingOrder> orders = new HashMap<>();
+
+    OrderBook(long stockId, Map<Long, OrderBook> registry) {
+        this.stockId = stockId;
+        this.registry = registry;
+    }
+
+    public long getStockId() {
+        return stockId;
+    }
+
+    // taker 주문을 반대편 호가와 매칭 (limitPrice까지만)
+    public MatchResult plan(OrderSide side, long limitPrice, int quantity, FillHandler handler) {
+        MatchResult result = new MatchResult(side);
+        PriceLevels book = side == OrderSide.BUY ? asks : bids;
+
+        int remaining = quantity;
+        for (int depth = 0; depth < book.size() && remaining > 0; depth++) {
+            PriceLevel level = book.fromBest(depth);
+            if (side == OrderSide.BUY ? level.price > limitPrice : level.price < limitPrice) {
+                break;
+            }
+
+            for (RestingOrder maker : level.orders) {
+                if (remaining == 0) {
+                    break;
+                }
+                int qty = Math.min(remaining, maker.getRemaining());
+                if (handler.onFill(maker, level.price, qty)) {
+                    result.add(new Fill(maker, level.price, qty));
+                    remaining -= qty;
+                } else {
+                    result.add(new Fill(maker, level.price, 0));
+                }
+            }
+        }
+        return result;
+    }
+
+    // plan 결과를 호가창에 반영 (체결 수량 차감, 소진/제거된 주문 정리)
+    public void commit(MatchResult result) {
+        PriceLevels book = result.getSide() == OrderSide.BUY ? asks : bids;
+
+        for (Fill fill : result.getFills()) {
+            RestingOrder maker = fill.getMaker();
+            if (fill.getQuantity() == 0) {
+                maker.drop();
+            } else {
+                maker.fill(fill.getQuantity());
+            }
+            if (maker.isDone()) {
+                unlink(book, maker);
+            }
+        }
+    }
+
+    // commit 되돌리기 (DB 트랜잭션 롤백 시): 체결 수량 복원, 빠졌던 주문은 가격 레벨 맨 앞에 다시 연결
+    // - 빠진 주문은 commit 시점에 그 레벨의 맨 앞이었으므로 역순으로 addFirst 하면 원래 순서가 유지됨
+    // - 그 사이 소유자가 취소한 주문은 복원하지 않음
+    public void revert(MatchResult result) {
+        PriceLevels book = result.getSide() == OrderSide.BUY ? asks : bids;
+
+        List<Fill> fills = result.getFills();
+        for (int i = fills.size() - 1; i >= 0; i--) {
+            Fill fill = fills.get(i);
+            RestingOrder maker = fill.getMaker();
+            if (maker.isCancelled()) {
+                continue;
+            }
+            boolean linked = orders.get(maker.getOrderId()) == maker;
+            maker.restore(fill.getQuantity());
+            if (!linked) {
+                book.getOrCreate(maker.getPrice()).orders.addFirst(maker);
+                orders.put(maker.getOrderId(), maker);
+                registry.put(maker.getOrderId(), this);
+            }
+        }
+    }
+
+    // 남은 수량을 지정가로 호가창에 등록
+    public RestingOrder rest(long orderId, String playerId, OrderSide side, long price, int quantity) {
+        RestingOrder order = new RestingOrder(orderId, playerId, side, price, quantity);
+        (side == OrderSide.BUY ? bids : asks).getOrCreate(price).orders.addLast(order);
+        orders.put(orderId, order);
+        registry.put(orderId, this);
+        return order;
+    }
+
+    public RestingOrder cancel(long orderId) {
+        RestingOrder order = orders.get(orderId);
+        if (order == null) {
+            return null;
+        }
+        order.cancel();
+        unlink(order.getSide() == OrderSide.BUY ? bids : asks, order);
+        return order;
+    }
+
+    // 대기 주문 전부 취소 (종목 삭제 시)
+    public List<RestingOrder> cancelAll() {
+        List<RestingOrder> cancelled = new ArrayList<>(orders.values());
+        for (RestingOrder order : cancelled) {
+            cancel(order.getOrderId());
+        }
+        return cancelled;
+    }
+
+    // 플레이어의 대기 주문 전부 취소 (플레이어 삭제 시)
+    public List<RestingOrder> cancelAll(String playerId) {
+        List<RestingOrder> cancelled = new ArrayList<>();
+        for (RestingOrder order : orders.values()) {
+            if (order.getPlayerId().equals(playerId)) {
+                cancelled.add(order);
+            }
+        }
+        for (RestingOrder order : cancelled) {
+            cancel(order.getOrderId());
+        }
+        return cancelled;
+    }
+
+    public RestingOrder find(long orderId) {
+        return orders.get(orderId);
+    }
+
+    public int depth(OrderSide side) {
+        return (side == OrderSide.BUY ? bids : asks).size();
+    }
+
+    private void unlink(PriceLevels book, RestingOrder order) {
+        PriceLevel level = book.get(order.getPrice());
+        if (level != null) {
+            level.orders.remove(order);
+            if (level.isEmpty()) {
+                book.remove(level.price);
+            }
+        }
+        orders.remove(order.getOrderId());
+        registry.remove(order.getOrderId());
+    }
+}
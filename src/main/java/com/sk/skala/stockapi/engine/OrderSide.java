@@ -0,0 +1,10 @@
+package com.sk.skala.stockapi.engine;
+
+public enum OrderSide {
+    BUY,
+    SELL;
+
+    public OrderSide opposite() {
+        return this == BUY ? SELL : BUY;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sk.skala.stockapi.engine;
+
+import java.util.ArrayDeque;
+
+// 같은 가격의 주문들을 도착 순서(FIFO)로 보관
+class PriceLevel {
+
+    final long price;
+    final ArrayDeque<RestingOrder> orders = new ArrayDeque<>();
+
+    PriceLevel(long price) {
+        this.price = price;
+    }
+
+    boolean isEmpty() {
+        return orders.isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.sk.skala.stockapi.engine;
+
+import java.util.Arrays;
+
+/**
+ * 한쪽(매수 또는 매도) 호가를 가격 순으로 보관하는 정렬 배열.
+ * - key는 long 틱 가격(박싱 없음), 최우선 호가가 항상 배열의 끝(size - 1)에 위치
+ * - 매수는 높은 가격, 매도는 낮은 가격이 우선이므로 매도는 -price를 key로 사용
+ */
+class PriceLevels {
+
+    private final boolean bid;
+    private long[] keys = new long[16];
+    private PriceLevel[] levels = new PriceLevel[16];
+    private int size;
+
+    PriceLevels(boolean bid) {
+        this.bid = bid;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // depth 0 = 최우선 호가
+    PriceLevel fromBest(int depth) {
+        return levels[size - 1 - depth];
+    }
+
+    PriceLevel get(long price) {
+        int i = Arrays.binarySearch(keys, 0, size, key(price));
+        return i >= 0 ? levels[i] : null;
+    }
+
+    PriceLevel getOrCreate(long price) {
+        long key = key(price);
+        int i = Arrays.binarySearch(keys, 0, size, key);
+        if (i >= 0) {
+            return levels[i];
+        }
+
+        int at = -i - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            levels = Arrays.copyOf(levels, size * 2);
+        }
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        System.arraycopy(levels, at, levels, at + 1, size - at);
+
+        PriceLevel level = new PriceLevel(price);
+        keys[at] = key;
+        levels[at] = level;
+        size++;
+        return level;
+    }
+
+    void remove(long price) {
+        int i = Arrays.binarySearch(keys, 0, size, key(price));
+        if (i < 0) {
+            return;
+        }
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(levels, i + 1, levels, i, size - i - 1);
+        levels[--size] = null;
+    }
+
+    private long key(long price) {
+        return bid ? price : -price;
+    }
+}
@@ -0,0 +1,68 @@
+package com.sk.skala.stockapi.engine;
+
+// 호가창에 대기 중인 지정가 주문 (가격/시간 우선순위 대상)
+public class RestingOrder {
+
+    private final long orderId;
+    private final String playerId;
+    private final OrderSide side;
+    private final long price;
+    private int remaining;
+    private boolean dropped;
+    private boolean cancelled;
+
+    RestingOrder(long orderId, String playerId, OrderSide side, long price, int remaining) {
+        this.orderId = orderId;
+        this.playerId = playerId;
+        this.side = side;
+        this.price = price;
+        this.remaining = remaining;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    void fill(int quantity) {
+        this.remaining -= quantity;
+    }
+
+    void drop() {
+        this.dropped = true;
+    }
+
+    void cancel() {
+        this.dropped = true;
+        this.cancelled = true;
+    }
+
+    // commit 되돌리기: 체결 수량을 돌려주고 제거 표시 해제
+    void restore(int quantity) {
+        this.remaining += quantity;
+        this.dropped = false;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    boolean isDone() {
+        return dropped || remaining <= 0;
+    }
+}
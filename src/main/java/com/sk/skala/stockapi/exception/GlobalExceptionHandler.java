@@ -2,11 +2,14 @@ package com.sk.skala.stockapi.exception;
 
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 
 import com.sk.skala.stockapi.config.Error;
@@ -95,7 +98,19 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 6️⃣ 커스텀 응답 예외
+     * 6️⃣ 요청 수 초과 (429 + Retry-After 초)
+     */
+    @ExceptionHandler(RateLimitException.class)
+    public Response takeRateLimitException(RateLimitException e, HttpServletResponse httpResponse) {
+        httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((e.getRetryAfter() + 999) / 1000));
+        Response response = new Response();
+        response.setError(e.getCode(), e.getMessage());
+        return response;
+    }
+
+    /**
+     * 7️⃣ 커스텀 응답 예외
      */
     @ExceptionHandler(ResponseException.class)
     public Response takeResponseException(ResponseException e) {
@@ -105,7 +120,7 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 7️⃣ NullPointerException
+     * 8️⃣ NullPointerException
      */
     @ExceptionHandler(NullPointerException.class)
     public Response takeNullPointerException(NullPointerException e) {
@@ -116,7 +131,7 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 8️⃣ 최종 예외 처리 (위에서 못 잡은 모든 예외)
+     * 9️⃣ 최종 예외 처리 (위에서 못 잡은 모든 예외)
      */
     @ExceptionHandler(Exception.class)
     public Response takeException(Exception e) {
@@ -0,0 +1,24 @@
+package com.sk.skala.stockapi.exception;
+
+import com.sk.skala.stockapi.config.Error;
+
+// 요청 수 초과 (retryAfter: 다시 시도할 수 있을 때까지 ms)
+public class RateLimitException extends ResponseException {
+	private static final long serialVersionUID = -2817364011870265431L;
+	private final long retryAfter;
+
+	public RateLimitException(long retryAfter) {
+		super(Error.RATE_LIMITED, "retry after " + retryAfter + "ms");
+		this.retryAfter = retryAfter;
+	}
+
+	public long getRetryAfter() {
+		return this.retryAfter;
+	}
+
+	// 초과 요청이 몰려도 거절 비용이 작도록 스택 트레이스 생략
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+}
@@ -0,0 +1,169 @@
+package com.sk.skala.stockapi.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 저널 레코드 1건 (고정 길이 256 바이트).
+ *
+ * <pre>
+ *   0  long  seq          (1 부터 증가, 0 이면 빈 칸)
+ *   8  long  timestamp    (epoch millis)
+ *  16  int   type
+ *  20  int   quantity
+ *  24  long  stockId
+ *  32  long  amount       (TRADE: 체결 단가, BALANCE: 잔액 / MoneyTool 단위)
+ *  40  id    buyer        (1 바이트 길이 + UTF-8 최대 100 바이트, BALANCE/REMOVE 는 대상 플레이어)
+ * 141  id    seller
+ * 244  int   crc32        (0 ~ 243 구간)
+ * </pre>
+ */
+public class JournalRecord {
+
+    public static final int SIZE = 256;
+    public static final int MAX_ID_BYTES = 100;
+
+    public static final int TRADE = 1;
+    public static final int BALANCE = 2;
+    public static final int REMOVE = 3;
+
+    // 하우스(현재가 체결) 상대방
+    public static final String HOUSE = "";
+
+    private static final int BUYER = 40;
+    private static final int SELLER = BUYER + 1 + MAX_ID_BYTES;
+    private static final int CRC = 244;
+
+    private long seq;
+    private long timestamp;
+    private final int type;
+    private final int quantity;
+    private final long stockId;
+    private final long amount;
+    private final String buyer;
+    private final String seller;
+
+    private JournalRecord(int type, long stockId, int quantity, long amount, String buyer, String seller) {
+        this.type = type;
+        this.stockId = stockId;
+        this.quantity = quantity;
+        this.amount = amount;
+        this.buyer = buyer;
+        this.seller = seller;
+    }
+
+    public static JournalRecord trade(long stockId, String buyer, String seller, long price, int quantity) {
+        return new JournalRecord(TRADE, stockId, quantity, price, buyer, seller);
+    }
+
+    public static JournalRecord balance(String playerId, long money) {
+        return new JournalRecord(BALANCE, 0, 0, money, playerId, HOUSE);
+    }
+
+    public static JournalRecord remove(String playerId) {
+        return new JournalRecord(REMOVE, 0, 0, 0, playerId, HOUSE);
+    }
+
+    // 저널에 기록 가능한 playerId 인지 (UTF-8 길이 제한)
+    public static boolean isValidId(String id) {
+        return id != null && id.getBytes(StandardCharsets.UTF_8).length <= MAX_ID_BYTES;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public long getStockId() {
+        return stockId;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public String getBuyer() {
+        return buyer;
+    }
+
+    public String getSeller() {
+        return seller;
+    }
+
+    // buf 의 현재 위치에 기록 (위치는 SIZE 만큼 이동)
+    void write(ByteBuffer buf, long seq, long timestamp) {
+        this.seq = seq;
+        this.timestamp = timestamp;
+
+        int base = buf.position();
+        buf.putLong(base, seq);
+        buf.putLong(base + 8, timestamp);
+        buf.putInt(base + 16, type);
+        buf.putInt(base + 20, quantity);
+        buf.putLong(base + 24, stockId);
+        buf.putLong(base + 32, amount);
+        putId(buf, base + BUYER, buyer);
+        putId(buf, base + SELLER, seller);
+        buf.putInt(base + CRC, checksum(buf, base));
+        buf.position(base + SIZE);
+    }
+
+    // buf 의 현재 위치에서 읽기 (빈 칸이거나 깨진 레코드면 null, 위치는 그대로)
+    static JournalRecord read(ByteBuffer buf) {
+        int base = buf.position();
+        if (buf.limit() - base < SIZE) {
+            return null;
+        }
+        long seq = buf.getLong(base);
+        if (seq <= 0 || buf.getInt(base + CRC) != checksum(buf, base)) {
+            return null;
+        }
+
+        JournalRecord record = new JournalRecord(buf.getInt(base + 16), buf.getLong(base + 24),
+                buf.getInt(base + 20), buf.getLong(base + 32), getId(buf, base + BUYER), getId(buf, base + SELLER));
+        record.seq = seq;
+        record.timestamp = buf.getLong(base + 8);
+        buf.position(base + SIZE);
+        return record;
+    }
+
+    private static void putId(ByteBuffer buf, int offset, String id) {
+        byte[] bytes = id == null ? new byte[0] : id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Journal id too long: " + id);
+        }
+        buf.put(offset, (byte) bytes.length);
+        for (int i = 0; i < MAX_ID_BYTES; i++) {
+            buf.put(offset + 1 + i, i < bytes.length ? bytes[i] : 0);
+        }
+    }
+
+    private static String getId(ByteBuffer buf, int offset) {
+        int length = Math.min(buf.get(offset) & 0xff, MAX_ID_BYTES);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buf.get(offset + 1 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buf, int base) {
+        CRC32 crc = new CRC32();
+        ByteBuffer slice = buf.duplicate();
+        slice.limit(base + CRC).position(base);
+        crc.update(slice);
+        return (int) crc.getValue();
+    }
+}
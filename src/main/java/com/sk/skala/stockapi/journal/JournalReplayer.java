@@ -0,0 +1,85 @@
+package com.sk.skala.stockapi.journal;
+
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저널을 처음부터 재생해서 Player 잔액과 PlayerStock 보유 수량을 다시 만듦.
+ * - application.journal.replay=true 면 기동 완료(초기 데이터 적재 후) 시점에 실행
+ * - DB 에 없는 플레이어/종목은 건너뜀 (비밀번호 등은 저널에 없으므로 행을 새로 만들지 않음)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JournalReplayer {
+
+    private final TradeJournal tradeJournal;
+    private final ApplicationProperties applicationProperties;
+    private final PlayerRepository playerRepository;
+    private final PlayerStockRepository playerStockRepository;
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 복원한 상태를 읽는 다른 기동 리스너(순위표 등)보다 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void replayOnStartup() {
+        ApplicationProperties.Journal config = applicationProperties.getJournal();
+        if (config != null && config.isReplay() && tradeJournal.isEnabled()) {
+            replay();
+        }
+    }
+
+    // 복원한 플레이어 수 반환
+    public int replay() {
+        JournalState state = new JournalState();
+        tradeJournal.replay(state::apply);
+
+        Integer restored = transactionTemplate.execute(status -> restore(state));
+        log.info("Journal replayed: records={}, players={}, skipped={}", state.getRecords(), restored,
+                state.getSkipped().size());
+        return restored == null ? 0 : restored;
+    }
+
+    private int restore(JournalState state) {
+        int restored = 0;
+        for (Map.Entry<String, Long> entry : state.getMoney().entrySet()) {
+            String playerId = entry.getKey();
+            if (playerRepository.updateMoney(playerId, entry.getValue()) == 0) {
+                log.warn("Journal replay: player {} not found", playerId);
+                continue;
+            }
+
+            playerStockRepository.deleteByPlayerId(playerId);
+            for (Map.Entry<Long, JournalState.Position> holding : state.getPositions(playerId).entrySet()) {
+                JournalState.Position position = holding.getValue();
+                // 다 판 종목도 실현 손익이 있으면 남김
+                if (position.quantity < 0 || (position.quantity == 0 && position.realized == 0)) {
+                    continue;
+                }
+                if (!stockRepository.existsById(holding.getKey())) {
+                    log.warn("Journal replay: stock {} not found", holding.getKey());
+                    continue;
+                }
+                playerStockRepository.addPosition(playerId, holding.getKey(), position.quantity, position.cost,
+                        position.realized);
+            }
+            restored++;
+        }
+        return restored;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sk.skala.stockapi.journal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+/**
+ * 저널 재생 결과 (플레이어별 잔액과 종목별 보유 수량/원가/실현 손익).
+ * - BALANCE 레코드로 처음 등장한 플레이어만 복원 대상 (보유 수량은 그 시점부터 0 에서 누적)
+ * - BALANCE 없이 체결에만 나온 플레이어는 기준 잔액을 알 수 없으므로 skipped 로 분류
+ * - 원가/실현 손익은 PlayerStockRepository 와 같은 평균 단가 계산 (정수 나눗셈까지 동일)
+ */
+class JournalState {
+
+    private final Map<String, Long> money = new LinkedHashMap<>();
+    private final Map<String, Map<Long, Position>> holdings = new HashMap<>();
+    private final Set<String> skipped = new HashSet<>();
+    private long records;
+
+    void apply(JournalRecord record) {
+        records++;
+        switch (record.getType()) {
+            case JournalRecord.BALANCE:
+                money.put(record.getBuyer(), record.getAmount());
+                holdings.computeIfAbsent(record.getBuyer(), id -> new HashMap<>());
+                skipped.remove(record.getBuyer());
+                break;
+            case JournalRecord.REMOVE:
+                money.remove(record.getBuyer());
+                holdings.remove(record.getBuyer());
+                skipped.remove(record.getBuyer());
+                break;
+            case JournalRecord.TRADE:
+                long cost = MoneyTool.multiply(record.getAmount(), record.getQuantity());
+                settle(record.getBuyer(), record.getStockId(), -cost, record.getQuantity());
+                settle(record.getSeller(), record.getStockId(), cost, -record.getQuantity());
+                break;
+            default:
+                break;
+        }
+    }
+
+    Map<String, Long> getMoney() {
+        return money;
+    }
+
+    // 종목별 보유 수량
+    Map<Long, Integer> getHoldings(String playerId) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        getPositions(playerId).forEach((stockId, position) -> quantities.put(stockId, position.quantity));
+        return quantities;
+    }
+
+    Map<Long, Position> getPositions(String playerId) {
+        return holdings.getOrDefault(playerId, Map.of());
+    }
+
+    Set<String> getSkipped() {
+        return skipped;
+    }
+
+    long getRecords() {
+        return records;
+    }
+
+    // amount: 잔액 변화 (매수는 음수), quantity: 수량 변화 (매도는 음수)
+    private void settle(String playerId, long stockId, long amount, int quantity) {
+        if (JournalRecord.HOUSE.equals(playerId)) {
+            return;
+        }
+        if (!money.containsKey(playerId)) {
+            skipped.add(playerId);
+            return;
+        }
+        money.merge(playerId, amount, Long::sum);
+        holdings.get(playerId).computeIfAbsent(stockId, id -> new Position()).apply(quantity, Math.abs(amount));
+    }
+
+    static class Position {
+        int quantity;
+        long cost;
+        long realized;
+
+        private void apply(int change, long amount) {
+            if (change > 0) {
+                cost += amount;
+            } else if (quantity > 0) {
+                long soldCost = MoneyTool.share(cost, -change, quantity);
+                cost -= soldCost;
+                realized += amount - soldCost;
+            }
+            quantity += change;
+        }
+    }
+}
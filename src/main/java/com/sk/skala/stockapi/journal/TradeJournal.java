@@ -0,0 +1,234 @@
+package com.sk.skala.stockapi.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결/잔액 변경을 고정 길이 레코드로 남기는 append-only 저널 (application.journal.enabled=true 일 때만 동작).
+ * - 세그먼트 파일을 mmap 해서 순차 기록, 가득 차면 다음 세그먼트로 넘어감 (파일명 = 첫 레코드 seq)
+ * - fsync 는 fsync-batch 건마다, 또는 fsync-interval 마다 백그라운드에서 묶어서 수행 (1 이면 매 건)
+ * - 재시작 시 마지막 세그먼트를 스캔해서 깨지지 않은 마지막 레코드 뒤부터 이어 씀
+ * - 같은 디렉터리는 한 프로세스만 사용 (journal.lock 파일 잠금, 실패하면 비활성)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TradeJournal {
+
+    private static final String SUFFIX = ".journal";
+
+    private final ApplicationProperties applicationProperties;
+
+    private Path dir;
+    private int segmentRecords;
+    private int fsyncBatch;
+
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long nextSeq = 1;
+    private int unsynced;
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void open() {
+        ApplicationProperties.Journal config = applicationProperties.getJournal();
+        if (config == null || !config.isEnabled()) {
+            return;
+        }
+
+        dir = Paths.get(config.getDir());
+        segmentRecords = (int) Math.max(1, Math.min(config.getSegmentSize(), Integer.MAX_VALUE) / JournalRecord.SIZE);
+        fsyncBatch = Math.max(1, config.getFsyncBatch());
+        try {
+            Files.createDirectories(dir);
+            if (!acquireLock()) {
+                log.warn("TradeJournal disabled: {} is already in use", dir);
+                return;
+            }
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (fsyncBatch > 1 && config.getFsyncInterval() > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "trade-journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::sync, config.getFsyncInterval(), config.getFsyncInterval(),
+                    TimeUnit.MILLISECONDS);
+        }
+        log.info("TradeJournal opened: dir={}, nextSeq={}, segmentRecords={}, fsyncBatch={}", dir, nextSeq,
+                segmentRecords, fsyncBatch);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+        try {
+            closeSegment();
+            if (lock != null) {
+                lock.release();
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("TradeJournal close failed: {}", e.getMessage());
+        }
+        lock = null;
+    }
+
+    public boolean isEnabled() {
+        return lock != null;
+    }
+
+    public void append(JournalRecord record) {
+        append(List.of(record));
+    }
+
+    public synchronized void append(List<JournalRecord> records) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            for (JournalRecord record : records) {
+                if (segment == null || !segment.hasRemaining()) {
+                    rollSegment();
+                }
+                record.write(segment, nextSeq++, now);
+            }
+            unsynced += records.size();
+            if (unsynced >= fsyncBatch) {
+                segment.force();
+                unsynced = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 디스크 반영 (백그라운드 flusher 와 종료 시 호출)
+    public synchronized void sync() {
+        if (segment != null && unsynced > 0) {
+            segment.force();
+            unsynced = 0;
+        }
+    }
+
+    // 전체 레코드를 seq 순서로 읽기 (재생용)
+    public synchronized void replay(Consumer<JournalRecord> consumer) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            for (Path path : segments()) {
+                try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                    MappedByteBuffer buf = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+                    JournalRecord record;
+                    while ((record = JournalRecord.read(buf)) != null) {
+                        consumer.accept(record);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean acquireLock() throws IOException {
+        lockChannel = FileChannel.open(dir.resolve("journal.lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            return false;
+        }
+        return true;
+    }
+
+    // 마지막 세그먼트에서 유효한 마지막 레코드 뒤로 쓰기 위치 복구
+    private void recover() throws IOException {
+        List<Path> paths = segments();
+        if (paths.isEmpty()) {
+            return;
+        }
+        Path last = paths.get(paths.size() - 1);
+        channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        segment.limit((int) (channel.size() / JournalRecord.SIZE) * JournalRecord.SIZE);
+
+        nextSeq = firstSeq(last);
+        JournalRecord record;
+        while ((record = JournalRecord.read(segment)) != null) {
+            nextSeq = record.getSeq() + 1;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        closeSegment();
+        Path path = dir.resolve(String.format("%020d%s", nextSeq, SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * JournalRecord.SIZE);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment != null) {
+            segment.force();
+            unsynced = 0;
+            segment = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static long firstSeq(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
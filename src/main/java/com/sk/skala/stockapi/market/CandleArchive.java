@@ -0,0 +1,130 @@
+package com.sk.skala.stockapi.market;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 확정된 캔들을 주기별 일자 파일({주기}-{yyyyMMdd}.candles, UTC)에 고정 길이 레코드로 추가.
+ * - 레코드: stockId, start, open, high, low, close, volume (long 7 개, 56 바이트, big-endian)
+ * - 주기별 버퍼에 모았다가 가득 차거나 flush() 될 때 파일에 씀
+ */
+@Slf4j
+class CandleArchive {
+
+    static final int RECORD_SIZE = 7 * Long.BYTES;
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    private final Path dir;
+    private final Writer[] writers = new Writer[CandleInterval.values().length];
+
+    CandleArchive(Path dir, int bufferRecords) throws IOException {
+        this.dir = dir;
+        Files.createDirectories(dir);
+        for (CandleInterval interval : CandleInterval.values()) {
+            writers[interval.ordinal()] = new Writer(interval, bufferRecords);
+        }
+    }
+
+    void append(CandleInterval interval, long stockId, CandleRing ring, int index) {
+        writers[interval.ordinal()].append(stockId, ring, index);
+    }
+
+    void flush() {
+        for (Writer writer : writers) {
+            writer.flush();
+        }
+    }
+
+    void close() {
+        for (Writer writer : writers) {
+            writer.close();
+        }
+    }
+
+    private class Writer {
+        private final CandleInterval interval;
+        private final ByteBuffer buffer;
+        private FileChannel channel;
+        private String day;
+
+        Writer(CandleInterval interval, int bufferRecords) {
+            this.interval = interval;
+            this.buffer = ByteBuffer.allocateDirect(Math.max(1, bufferRecords) * RECORD_SIZE);
+        }
+
+        synchronized void append(long stockId, CandleRing ring, int index) {
+            String barDay = DAY.format(Instant.ofEpochMilli(ring.start(index)));
+            if (!barDay.equals(day)) {
+                flush();
+                open(barDay);
+            }
+            if (buffer.remaining() < RECORD_SIZE) {
+                flush();
+            }
+            buffer.putLong(stockId)
+                    .putLong(ring.start(index))
+                    .putLong(ring.open(index))
+                    .putLong(ring.high(index))
+                    .putLong(ring.low(index))
+                    .putLong(ring.close(index))
+                    .putLong(ring.volume(index));
+        }
+
+        synchronized void flush() {
+            if (buffer.position() == 0) {
+                return;
+            }
+            if (channel == null) {
+                // 파일을 열지 못한 경우 버퍼가 넘치지 않도록 버림
+                buffer.clear();
+                return;
+            }
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                log.error("CandleArchive.flush: {}", e.getMessage());
+            }
+            buffer.clear();
+        }
+
+        synchronized void close() {
+            flush();
+            closeChannel();
+        }
+
+        private void open(String barDay) {
+            closeChannel();
+            day = barDay;
+            try {
+                channel = FileChannel.open(dir.resolve(interval.getLabel() + "-" + barDay + ".candles"),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.error("CandleArchive.open: {}", e.getMessage());
+            }
+        }
+
+        private void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.warn("CandleArchive.close: {}", e.getMessage());
+                }
+                channel = null;
+            }
+        }
+    }
+}
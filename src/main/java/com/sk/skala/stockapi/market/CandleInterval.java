@@ -0,0 +1,40 @@
+package com.sk.skala.stockapi.market;
+
+// 캔들 집계 주기
+public enum CandleInterval {
+    S1("1s", 1000L),
+    M1("1m", 60 * 1000L),
+    M5("5m", 5 * 60 * 1000L),
+    H1("1h", 60 * 60 * 1000L);
+
+    private final String label;
+    private final long millis;
+
+    CandleInterval(String label, long millis) {
+        this.label = label;
+        this.millis = millis;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    // 구간 시작 시각 (epoch millis)
+    public long bucket(long timestamp) {
+        return timestamp - Math.floorMod(timestamp, millis);
+    }
+
+    // "1m" 형식 → 없으면 null
+    public static CandleInterval of(String label) {
+        for (CandleInterval interval : values()) {
+            if (interval.label.equalsIgnoreCase(label)) {
+                return interval;
+            }
+        }
+        return null;
+    }
+}
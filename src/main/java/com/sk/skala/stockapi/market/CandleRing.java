@@ -0,0 +1,127 @@
+package com.sk.skala.stockapi.market;
+
+import java.util.Arrays;
+
+/**
+ * 한 종목 한 주기의 OHLCV 링 버퍼 (primitive 배열, 최대 capacity 개).
+ * - 배열은 작게 시작해서 capacity 까지만 2 배씩 늘림 → 종목당 메모리 상한 고정
+ * - 동기화는 호출하는 쪽(CandleStore 의 종목 단위 잠금)에서 처리
+ */
+class CandleRing {
+
+    private static final int INITIAL = 16;
+
+    private final int capacity;
+    private long[] start;
+    private long[] open;
+    private long[] high;
+    private long[] low;
+    private long[] close;
+    private long[] volume;
+    // 가장 최근 봉 위치와 봉 개수
+    private int head = -1;
+    private int size;
+
+    CandleRing(int capacity) {
+        this.capacity = capacity;
+        int length = Math.min(INITIAL, capacity);
+        start = new long[length];
+        open = new long[length];
+        high = new long[length];
+        low = new long[length];
+        close = new long[length];
+        volume = new long[length];
+    }
+
+    // 가격/체결량 반영 (새 구간이면 새 봉 추가, 꽉 차면 가장 오래된 봉을 덮어씀)
+    void update(long bucket, long price, long quantity) {
+        if (size > 0 && bucket <= start[head]) {
+            // 같은 구간 (시계가 되돌아간 경우도 마지막 봉에 반영)
+            high[head] = Math.max(high[head], price);
+            low[head] = Math.min(low[head], price);
+            close[head] = price;
+            volume[head] += quantity;
+            return;
+        }
+
+        if (size == start.length && size < capacity) {
+            grow();
+        }
+        head = (head + 1) % start.length;
+        if (size < start.length) {
+            size++;
+        }
+        start[head] = bucket;
+        open[head] = price;
+        high[head] = price;
+        low[head] = price;
+        close[head] = price;
+        volume[head] = quantity;
+    }
+
+    // bucket 으로 update 하면 현재 마지막 봉이 확정되는지
+    boolean rollsOver(long bucket) {
+        return size > 0 && bucket > start[head];
+    }
+
+    // 가장 최근 봉 위치 (없으면 -1)
+    int latest() {
+        return head;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long start(int index) {
+        return start[index];
+    }
+
+    long open(int index) {
+        return open[index];
+    }
+
+    long high(int index) {
+        return high[index];
+    }
+
+    long low(int index) {
+        return low[index];
+    }
+
+    long close(int index) {
+        return close[index];
+    }
+
+    long volume(int index) {
+        return volume[index];
+    }
+
+    // 최근 limit 개를 오래된 순서로 대상 배열의 offset 부터 복사, 복사한 개수 반환
+    int copyLatest(int limit, long[] starts, long[] opens, long[] highs, long[] lows, long[] closes,
+            long[] volumes) {
+        int count = Math.min(limit, size);
+        int from = Math.floorMod(head - count + 1, start.length);
+        for (int i = 0; i < count; i++) {
+            int index = (from + i) % start.length;
+            starts[i] = start[index];
+            opens[i] = open[index];
+            highs[i] = high[index];
+            lows[i] = low[index];
+            closes[i] = close[index];
+            volumes[i] = volume[index];
+        }
+        return count;
+    }
+
+    // 배열이 꽉 찼을 때만 호출 (head 가 마지막 칸이므로 순서 그대로 복사)
+    private void grow() {
+        int length = Math.min(capacity, start.length * 2);
+        start = Arrays.copyOf(start, length);
+        open = Arrays.copyOf(open, length);
+        high = Arrays.copyOf(high, length);
+        low = Arrays.copyOf(low, length);
+        close = Arrays.copyOf(close, length);
+        volume = Arrays.copyOf(volume, length);
+    }
+}
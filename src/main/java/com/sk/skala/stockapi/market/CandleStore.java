@@ -0,0 +1,139 @@
+package com.sk.skala.stockapi.market;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.dto.CandleList;
+import com.sk.skala.stockapi.journal.JournalRecord;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목별 OHLCV 캔들 (1s/1m/5m/1h).
+ * - 시세 변경(시뮬레이터 틱, 가격 수정)은 가격만, 체결은 가격 + 거래량으로 반영
+ * - 종목 x 주기마다 최대 capacity 개의 primitive 링 버퍼 → 종목당 메모리 상한 고정
+ * - 새 구간이 시작되어 확정된 봉은 archive-dir 에 추가 기록 (archive: true 일 때)
+ * - 조회는 응답용 배열 외에 봉 단위 할당 없음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CandleStore {
+
+    private final ApplicationProperties applicationProperties;
+    private final PriceSimulator priceSimulator;
+
+    private final Map<Long, CandleRing[]> series = new ConcurrentHashMap<>();
+
+    private int capacity;
+    private CandleArchive archive;
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        ApplicationProperties.Candle config = applicationProperties.getCandle();
+        capacity = Math.max(1, config.getCapacity());
+        if (config.isArchive()) {
+            try {
+                archive = new CandleArchive(Paths.get(config.getArchiveDir()), config.getArchiveBuffer());
+            } catch (IOException e) {
+                log.error("CandleStore archive disabled: {}", e.getMessage());
+            }
+        }
+        if (archive != null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "candle-archive-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(archive::flush, 1, 1, TimeUnit.SECONDS);
+        }
+        priceSimulator.addListener(this::onPrice);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
+    // 시세 변경 (거래량 없음)
+    public void onPrice(long stockId, long price) {
+        record(stockId, System.currentTimeMillis(), price, 0);
+    }
+
+    // 여러 종목 시세 변경 (대량 가져오기, 같은 시각으로 기록)
+    public void onPrices(long[] stockIds, long[] prices) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < stockIds.length; i++) {
+            record(stockIds[i], now, prices[i], 0);
+        }
+    }
+
+    // 체결 내역 반영
+    public void onTrades(List<JournalRecord> trades) {
+        long now = System.currentTimeMillis();
+        for (JournalRecord trade : trades) {
+            record(trade.getStockId(), now, trade.getAmount(), trade.getQuantity());
+        }
+    }
+
+    public void remove(Long stockId) {
+        series.remove(stockId);
+    }
+
+    // 최근 limit 개 (오래된 순), 데이터가 없으면 null
+    public CandleList getCandles(Long stockId, CandleInterval interval, int limit) {
+        CandleRing[] rings = series.get(stockId);
+        if (rings == null) {
+            return null;
+        }
+
+        CandleRing ring = rings[interval.ordinal()];
+        synchronized (rings) {
+            int count = Math.min(Math.min(limit, capacity), ring.size());
+            CandleList list = new CandleList(stockId, interval.getLabel(), count);
+            ring.copyLatest(count, list.getTime(), list.getOpen(), list.getHigh(), list.getLow(), list.getClose(),
+                    list.getVolume());
+            return list;
+        }
+    }
+
+    private void record(long stockId, long timestamp, long price, long quantity) {
+        CandleRing[] rings = series.computeIfAbsent(stockId, id -> newRings());
+        synchronized (rings) {
+            for (CandleInterval interval : CandleInterval.values()) {
+                CandleRing ring = rings[interval.ordinal()];
+                long bucket = interval.bucket(timestamp);
+                if (archive != null && ring.rollsOver(bucket)) {
+                    archive.append(interval, stockId, ring, ring.latest());
+                }
+                ring.update(bucket, price, quantity);
+            }
+        }
+    }
+
+    private CandleRing[] newRings() {
+        CandleRing[] rings = new CandleRing[CandleInterval.values().length];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new CandleRing(capacity);
+        }
+        return rings;
+    }
+}
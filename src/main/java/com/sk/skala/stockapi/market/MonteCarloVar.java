@@ -0,0 +1,143 @@
+package com.sk.skala.stockapi.market;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 몬테카를로 VaR / Expected Shortfall.
+ * - 종목별 기간 로그 수익률 ~ 평균 0 다변량 정규, 경로마다 x = L·z (L: 공분산의 촐레스키 하삼각)
+ * - 경로 손실 = -Σ 평가액 x (e^x - 1)
+ * - 경로 구간을 ForkJoin 으로 나누고, 나눌 때마다 SplittableRandom.split() 으로 독립 난수열 (seed 가 같으면 결과 동일)
+ * - 공분산/난수/손실 버퍼는 primitive 배열 (경로당 객체 생성 없음)
+ */
+public class MonteCarloVar {
+
+    // 한 작업이 처리할 경로 수
+    private static final int CHUNK = 4096;
+
+    private final ForkJoinPool pool;
+
+    public MonteCarloVar(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // values: 종목별 평가액, covariance: k x k 공분산 (행 우선), confidence: 0.99 등
+    public Result simulate(double[] values, double[] covariance, int paths, double confidence, long seed) {
+        int k = values.length;
+        if (k == 0 || paths <= 0) {
+            return new Result(0, 0);
+        }
+
+        double[] losses = new double[paths];
+        Job job = new Job(values, cholesky(covariance, k), losses);
+        pool.invoke(new PathTask(job, 0, paths, new SplittableRandom(seed)));
+
+        Arrays.sort(losses);
+        int index = Math.min(paths - 1, Math.max(0, (int) Math.ceil(confidence * paths) - 1));
+        double tail = 0;
+        for (int p = index; p < paths; p++) {
+            tail += losses[p];
+        }
+        return new Result(losses[index], tail / (paths - index));
+    }
+
+    // 하삼각 L (L·Lᵀ = a), 양의 준정부호가 아니어서 대각이 0 이하가 되면 그 열은 0 으로 둠
+    static double[] cholesky(double[] a, int k) {
+        double[] lower = new double[k * k];
+        for (int j = 0; j < k; j++) {
+            double diagonal = a[j * k + j];
+            for (int m = 0; m < j; m++) {
+                diagonal -= lower[j * k + m] * lower[j * k + m];
+            }
+            double pivot = diagonal > 0 ? Math.sqrt(diagonal) : 0;
+            lower[j * k + j] = pivot;
+            for (int i = j + 1; i < k; i++) {
+                if (pivot == 0) {
+                    continue;
+                }
+                double sum = a[i * k + j];
+                for (int m = 0; m < j; m++) {
+                    sum -= lower[i * k + m] * lower[j * k + m];
+                }
+                lower[i * k + j] = sum / pivot;
+            }
+        }
+        return lower;
+    }
+
+    public static class Result {
+        private final double valueAtRisk;
+        private final double expectedShortfall;
+
+        Result(double valueAtRisk, double expectedShortfall) {
+            this.valueAtRisk = valueAtRisk;
+            this.expectedShortfall = expectedShortfall;
+        }
+
+        public double getValueAtRisk() {
+            return valueAtRisk;
+        }
+
+        public double getExpectedShortfall() {
+            return expectedShortfall;
+        }
+    }
+
+    private static class Job {
+        private final double[] values;
+        private final double[] lower;
+        private final double[] losses;
+
+        Job(double[] values, double[] lower, double[] losses) {
+            this.values = values;
+            this.lower = lower;
+            this.losses = losses;
+        }
+    }
+
+    private static class PathTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Job job;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        PathTask(Job job, int from, int to, SplittableRandom random) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new PathTask(job, from, mid, random.split()), new PathTask(job, mid, to, random));
+                return;
+            }
+
+            double[] values = job.values;
+            double[] lower = job.lower;
+            int k = values.length;
+            double[] z = new double[k];
+            for (int p = from; p < to; p++) {
+                for (int i = 0; i < k; i++) {
+                    z[i] = random.nextGaussian();
+                }
+                double pnl = 0;
+                for (int i = 0, row = 0; i < k; i++, row += k) {
+                    double x = 0;
+                    for (int j = 0; j <= i; j++) {
+                        x += lower[row + j] * z[j];
+                    }
+                    pnl += values[i] * Math.expm1(x);
+                }
+                job.losses[p] = -pnl;
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.sk.skala.stockapi.market;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.StockRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 시뮬레이터 (application.simulator.enabled=true 일 때만 동작).
+ * - 종목별 기하 브라운 운동(GBM): S' = S * exp((drift - vol^2/2) * dt + vol * sqrt(dt) * Z), drift/volatility 는 시간당
+ * - 현재가는 종목별 slot 의 AtomicLongArray 에 보관 → 조회는 잠금 없음
+ * - DB(stock 테이블)에는 flush-interval 마다 바뀐 종목만 JDBC 배치 UPDATE
+ * - 등록되지 않은 종목(시뮬레이터 시작 후 저장소로 직접 만든 종목 등)은 DB 가격을 그대로 사용
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PriceSimulator {
+
+    private static final double HOUR_MILLIS = 60 * 60 * 1000.0;
+    private static final String FLUSH_SQL = "update stock set stock_price_micros = ? where id = ?";
+
+    private final ApplicationProperties applicationProperties;
+    private final StockRepository stockRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 종목 추가/삭제 시 통째로 교체 (틱/수동 가격 변경과는 registry 잠금으로 직렬화)
+    private volatile Slots slots = new Slots(0);
+    private final Object registry = new Object();
+    // 틱마다 바뀐 가격을 받는 리스너 (캔들 등)
+    private final List<PriceVisitor> listeners = new CopyOnWriteArrayList<>();
+    // 틱에서 바뀐 slot/가격 (틱 스레드만 사용, 종목 수만큼 재사용)
+    private int[] changedSlots = new int[0];
+    private long[] changedPrices = new long[0];
+
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ApplicationProperties.Simulator config = applicationProperties.getSimulator();
+        if (config == null || !config.isEnabled() || scheduler != null) {
+            return;
+        }
+
+        register(stockRepository.findAll());
+
+        AtomicInteger index = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(2, r -> {
+            Thread thread = new Thread(r, "price-simulator-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tick, config.getTickInterval(), config.getTickInterval(),
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::flush, config.getFlushInterval(), config.getFlushInterval(),
+                TimeUnit.MILLISECONDS);
+        log.info("PriceSimulator started: stocks={}, tick={}ms, flush={}ms", slots.size(), config.getTickInterval(),
+                config.getFlushInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            flush();
+        }
+    }
+
+    public boolean isEnabled() {
+        return scheduler != null;
+    }
+
+    // 현재가 (시뮬레이터가 관리하지 않는 종목이면 fallback)
+    public long price(Long stockId, long fallback) {
+        Slots current = slots;
+        Integer slot = current.index.get(stockId);
+        return slot != null ? current.prices.get(slot) : fallback;
+    }
+
+    public void addListener(PriceVisitor listener) {
+        listeners.add(listener);
+    }
+
+    // 관리 중인 전 종목 현재가 순회
+    public void forEachPrice(PriceVisitor visitor) {
+        Slots current = slots;
+        for (int i = 0; i < current.size(); i++) {
+            visitor.visit(current.ids[i], current.prices.get(i));
+        }
+    }
+
+    // 종목 등록/가격 직접 변경 (PUT /api/stocks)
+    public void register(Stock stock) {
+        register(List.of(stock));
+    }
+
+    // 여러 종목 한 번에 등록 (기동, 대량 가져오기): 새 종목이 몇 개든 slot 배열은 한 번만 복사
+    public void register(Collection<Stock> stocks) {
+        ApplicationProperties.Simulator config = applicationProperties.getSimulator();
+        if (config == null || !config.isEnabled()) {
+            return;
+        }
+
+        synchronized (registry) {
+            Slots current = slots;
+            List<Stock> added = new ArrayList<>();
+            for (Stock stock : stocks) {
+                if (stock.getId() == null) {
+                    continue;
+                }
+                Integer slot = current.index.get(stock.getId());
+                if (slot != null) {
+                    current.prices.set(slot, stock.getStockPrice());
+                } else {
+                    added.add(stock);
+                }
+            }
+            if (!added.isEmpty()) {
+                slots = current.with(added, config);
+            }
+        }
+    }
+
+    public void remove(Long stockId) {
+        synchronized (registry) {
+            if (slots.index.containsKey(stockId)) {
+                slots = slots.without(stockId);
+            }
+        }
+    }
+
+    // 모든 종목 1 틱 진행
+    // - 잠금 안에서는 가격 갱신 + 바뀐 slot 기록만, 리스너 호출은 잠금을 푼 뒤 (느린 리스너가 틱/등록을 막지 않음)
+    // - 그 사이 수동 가격 변경(register)으로 다시 바뀐 종목은 건너뜀 (새 가격은 변경한 쪽에서 반영)
+    void tick() {
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Slots current;
+            int count = 0;
+            synchronized (registry) {
+                current = slots;
+                if (changedSlots.length < current.size()) {
+                    changedSlots = new int[current.size()];
+                    changedPrices = new long[current.size()];
+                }
+                for (int i = 0; i < current.size(); i++) {
+                    double factor = Math.exp(current.mean[i] + current.scale[i] * random.nextGaussian());
+                    long previous = current.prices.get(i);
+                    long price = Math.max(1, Math.round(previous * factor));
+                    current.prices.set(i, price);
+                    if (price != previous) {
+                        changedSlots[count] = i;
+                        changedPrices[count++] = price;
+                    }
+                }
+            }
+
+            for (int n = 0; n < count; n++) {
+                int slot = changedSlots[n];
+                long price = changedPrices[n];
+                if (current.prices.get(slot) != price) {
+                    continue;
+                }
+                for (PriceVisitor listener : listeners) {
+                    listener.visit(current.ids[slot], price);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("PriceSimulator.tick: {}", e.getMessage());
+        }
+    }
+
+    // 마지막 flush 이후 바뀐 가격만 배치 UPDATE
+    synchronized void flush() {
+        try {
+            Slots current = slots;
+            int batchSize = Math.max(1, applicationProperties.getSimulator().getFlushBatchSize());
+            List<Object[]> batch = new ArrayList<>(Math.min(current.size(), batchSize));
+            for (int i = 0; i < current.size(); i++) {
+                long price = current.prices.get(i);
+                if (price == current.flushed[i]) {
+                    continue;
+                }
+                current.flushed[i] = price;
+                batch.add(new Object[] { price, current.ids[i] });
+                if (batch.size() == batchSize) {
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            }
+        } catch (RuntimeException e) {
+            log.error("PriceSimulator.flush: {}", e.getMessage());
+        }
+    }
+
+    public interface PriceVisitor {
+        void visit(long stockId, long price);
+    }
+
+    // 종목 slot 배열 묶음 (가격 외에는 생성 후 변경 없음, flushed 는 flush 스레드만 사용)
+    private static class Slots {
+        private final Map<Long, Integer> index;
+        private final long[] ids;
+        private final double[] mean;
+        private final double[] scale;
+        private final long[] flushed;
+        private final AtomicLongArray prices;
+
+        Slots(int size) {
+            this.index = new HashMap<>(Math.max(16, size * 2));
+            this.ids = new long[size];
+            this.mean = new double[size];
+            this.scale = new double[size];
+            this.flushed = new long[size];
+            this.prices = new AtomicLongArray(size);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        // 뒤에 종목 추가 (같은 id 가 여러 번 있으면 처음 것만)
+        Slots with(List<Stock> added, ApplicationProperties.Simulator config) {
+            int size = size();
+            Slots next = new Slots(size + added.size());
+            for (int i = 0; i < size; i++) {
+                next.copy(i, this, i);
+            }
+            double dt = config.getTickInterval() / HOUR_MILLIS;
+            int n = size;
+            for (Stock stock : added) {
+                if (next.index.containsKey(stock.getId())) {
+                    continue;
+                }
+                ApplicationProperties.Simulator.Model model = config.getStocks().get(stock.getStockName());
+                double drift = model != null && model.getDrift() != null ? model.getDrift() : config.getDrift();
+                double volatility = model != null && model.getVolatility() != null ? model.getVolatility()
+                        : config.getVolatility();
+                next.index.put(stock.getId(), n);
+                next.ids[n] = stock.getId();
+                next.mean[n] = (drift - volatility * volatility / 2) * dt;
+                next.scale[n] = volatility * Math.sqrt(dt);
+                next.flushed[n] = stock.getStockPrice();
+                next.prices.set(n, stock.getStockPrice());
+                n++;
+            }
+            return n == next.size() ? next : next.truncate(n);
+        }
+
+        Slots without(long stockId) {
+            int removed = index.get(stockId);
+            Slots next = new Slots(size() - 1);
+            for (int i = 0, j = 0; i < size(); i++) {
+                if (i != removed) {
+                    next.copy(j++, this, i);
+                }
+            }
+            return next;
+        }
+
+        private Slots truncate(int size) {
+            Slots next = new Slots(size);
+            for (int i = 0; i < size; i++) {
+                next.copy(i, this, i);
+            }
+            return next;
+        }
+
+        private void copy(int to, Slots from, int at) {
+            index.put(from.ids[at], to);
+            ids[to] = from.ids[at];
+            mean[to] = from.mean[at];
+            scale[to] = from.scale[at];
+            flushed[to] = from.flushed[at];
+            prices.set(to, from.prices.get(at));
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.sk.skala.stockapi.market;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 SSE 스트림 (GET /api/stocks/stream).
+ * - broadcast 스레드 1개가 interval 마다 현재가를 이전 전송값과 비교해서 바뀐 종목만 구독자별 대기 맵에 넣음
+ * - 대기 맵은 종목별 최신 가격 1건만 유지 → 느린 구독자는 밀린 이력 대신 최신 가격만 받음
+ * - 실제 전송(블로킹 I/O)은 senders 스레드 풀에서 구독자당 한 번에 하나씩
+ * - 종목 JSON 조각은 변경 시 한 번만 만들고 모든 구독자가 공유
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PriceStream {
+
+    private static final String EVENT = "prices";
+
+    private final ApplicationProperties applicationProperties;
+    private final PriceSimulator priceSimulator;
+    private final StockRepository stockRepository;
+
+    // 마지막으로 방송한 가격과 JSON 조각
+    private final Map<Long, Long> latest = new ConcurrentHashMap<>();
+    private final Map<Long, String> fragments = new ConcurrentHashMap<>();
+    // PUT /api/stocks, 대량 가져오기 등 시뮬레이터 밖에서 바뀐 가격 ([id, 가격, id, 가격, ...])
+    private final Queue<long[]> published = new ConcurrentLinkedQueue<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService broadcaster;
+    private ExecutorService senders;
+    private long lastHeartbeat;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (broadcaster != null) {
+            return;
+        }
+        for (Stock stock : stockRepository.findAll()) {
+            update(stock.getId(), priceSimulator.price(stock.getId(), stock.getStockPrice()));
+        }
+
+        ApplicationProperties.Stream config = applicationProperties.getStream();
+        AtomicInteger index = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(Math.max(1, config.getSenders()), r -> {
+            Thread thread = new Thread(r, "price-stream-sender-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        broadcaster = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "price-stream-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lastHeartbeat = System.currentTimeMillis();
+        broadcaster.scheduleWithFixedDelay(this::broadcast, config.getInterval(), config.getInterval(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (broadcaster != null) {
+            broadcaster.shutdownNow();
+            senders.shutdownNow();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    // 구독 (stockIds 가 비어 있으면 전 종목), 처음에는 현재가 전체를 한 번 보냄
+    public SseEmitter subscribe(Collection<Long> stockIds) {
+        SseEmitter emitter = new SseEmitter(applicationProperties.getStream().getTimeout());
+        Subscriber subscriber = new Subscriber(emitter,
+                stockIds == null || stockIds.isEmpty() ? null : new HashSet<>(stockIds));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 보낼 가격이 없어도 첫 이벤트(하트비트)로 응답 헤더를 바로 내보냄
+        fragments.forEach((stockId, fragment) -> subscriber.offer(stockId, fragment));
+        subscriber.heartbeat = true;
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    // 시뮬레이터 밖에서 바뀐 가격 알림
+    public void publish(Long stockId, long price) {
+        if (stockId != null) {
+            published.add(new long[] { stockId, price });
+        }
+    }
+
+    // 여러 종목 한 번에 (대량 가져오기): 큐에는 [id, 가격, id, 가격, ...] 배열 하나만 넣음
+    public void publish(long[] stockIds, long[] prices) {
+        if (stockIds.length == 0) {
+            return;
+        }
+        long[] batch = new long[stockIds.length * 2];
+        for (int i = 0; i < stockIds.length; i++) {
+            batch[i * 2] = stockIds[i];
+            batch[i * 2 + 1] = prices[i];
+        }
+        published.add(batch);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    void broadcast() {
+        try {
+            List<Long> changed = new ArrayList<>();
+            long[] manual;
+            while ((manual = published.poll()) != null) {
+                for (int i = 0; i < manual.length; i += 2) {
+                    if (update(manual[i], manual[i + 1])) {
+                        changed.add(manual[i]);
+                    }
+                }
+            }
+            priceSimulator.forEachPrice((stockId, price) -> {
+                if (update(stockId, price)) {
+                    changed.add(stockId);
+                }
+            });
+
+            long now = System.currentTimeMillis();
+            boolean heartbeat = now - lastHeartbeat >= applicationProperties.getStream().getHeartbeat();
+            if (heartbeat) {
+                lastHeartbeat = now;
+            }
+            if (changed.isEmpty() && !heartbeat) {
+                return;
+            }
+
+            for (Subscriber subscriber : subscribers) {
+                boolean offered = false;
+                for (Long stockId : changed) {
+                    offered |= subscriber.offer(stockId, fragments.get(stockId));
+                }
+                if (heartbeat) {
+                    subscriber.heartbeat = true;
+                }
+                if (offered || heartbeat) {
+                    subscriber.schedule();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("PriceStream.broadcast: {}", e.getMessage());
+        }
+    }
+
+    private boolean update(long stockId, long price) {
+        Long previous = latest.put(stockId, price);
+        if (previous != null && previous == price) {
+            return false;
+        }
+        fragments.put(stockId, "{\"stockId\":" + stockId + ",\"stockPrice\":" + MoneyTool.format(price) + "}");
+        return true;
+    }
+
+    private class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Set<Long> stockIds;
+        private final Map<Long, String> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean heartbeat;
+
+        Subscriber(SseEmitter emitter, Set<Long> stockIds) {
+            this.emitter = emitter;
+            this.stockIds = stockIds;
+        }
+
+        // 종목별 최신 가격으로 덮어씀
+        boolean offer(Long stockId, String fragment) {
+            if (fragment == null || (stockIds != null && !stockIds.contains(stockId))) {
+                return false;
+            }
+            pending.put(stockId, fragment);
+            return true;
+        }
+
+        void schedule() {
+            if (senders != null && sending.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this);
+                } catch (RejectedExecutionException e) {
+                    sending.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                do {
+                    drain();
+                    sending.set(false);
+                } while ((!pending.isEmpty() || heartbeat) && sending.compareAndSet(false, true));
+            } catch (IOException | RuntimeException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void drain() throws IOException {
+            StringBuilder data = new StringBuilder("[");
+            for (Long stockId : pending.keySet()) {
+                String fragment = pending.remove(stockId);
+                if (fragment != null) {
+                    data.append(data.length() > 1 ? "," : "").append(fragment);
+                }
+            }
+            if (data.length() > 1) {
+                emitter.send(SseEmitter.event().name(EVENT).data(data.append(']').toString(),
+                        MediaType.APPLICATION_JSON));
+            } else if (heartbeat) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+            heartbeat = false;
+        }
+    }
+}
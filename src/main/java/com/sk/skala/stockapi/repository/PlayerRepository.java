@@ -1,9 +1,48 @@
 //PlayerRepository
 package com.sk.skala.stockapi.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sk.skala.stockapi.data.table.Player;
 
 public interface PlayerRepository extends JpaRepository<Player, String> {
+
+    // 잔액이 충분할 때만 차감 (0 이면 잔액 부족 또는 플레이어 없음)
+    @Modifying
+    @Query("update Player p set p.playerMoney = p.playerMoney - :amount"
+            + " where p.playerId = :playerId and p.playerMoney >= :amount")
+    int withdraw(@Param("playerId") String playerId, @Param("amount") long amount);
+
+    @Modifying
+    @Query("update Player p set p.playerMoney = p.playerMoney + :amount where p.playerId = :playerId")
+    int deposit(@Param("playerId") String playerId, @Param("amount") long amount);
+
+    // 플레이어 행 잠금 (트랜잭션 끝까지 유지), 없으면 empty
+    // 매도 주문이 보유 내역 행보다 잔액 행을 먼저 잠그도록 주문 시작 시 호출
+    @Query(value = "SELECT player_id FROM player WHERE player_id = :playerId FOR UPDATE", nativeQuery = true)
+    Optional<String> lockById(@Param("playerId") String playerId);
+
+    // 저널 재생 시 잔액을 그대로 덮어씀
+    @Modifying
+    @Query("update Player p set p.playerMoney = :amount where p.playerId = :playerId")
+    int updateMoney(@Param("playerId") String playerId, @Param("amount") long amount);
+
+    // 엔티티 로딩 없이 잔액만 조회
+    @Query("select p.playerMoney from Player p where p.playerId = :playerId")
+    Optional<Long> findMoneyById(@Param("playerId") String playerId);
+
+    // 키셋 페이지 (playerId > after, COUNT 쿼리 없음)
+    Slice<Player> findByPlayerIdGreaterThanOrderByPlayerIdAsc(String after, Pageable pageable);
+
+    // 순위표 적재용 [playerId, playerMoney]
+    @Query("select p.playerId, p.playerMoney from Player p")
+    List<Object[]> findAllMoney();
 }
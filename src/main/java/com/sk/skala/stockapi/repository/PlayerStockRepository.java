@@ -4,16 +4,73 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.sk.skala.stockapi.data.dto.PlayerStockDto;
 import com.sk.skala.stockapi.data.table.Player;
 import com.sk.skala.stockapi.data.table.PlayerStock;
 import com.sk.skala.stockapi.data.table.Stock;
 
 public interface PlayerStockRepository extends JpaRepository<PlayerStock, Long> {
 
+    // 매도 수량만큼의 평균 단가 원가 (변경 전 값 기준)
+    String SOLD_COST = "(cost_basis_micros / quantity * :quantity + MOD(cost_basis_micros, quantity) * :quantity / quantity)";
+
     // 플레이어가 보유한 주식 목록 조회
     List<PlayerStock> findByPlayer_PlayerId(String playerId);
 
+    // 플레이어 상세 조회용: 종목 정보까지 한 쿼리로 DTO 에 바로 담음 (엔티티/지연 로딩 없음)
+    @Query("select new com.sk.skala.stockapi.data.dto.PlayerStockDto("
+            + "s.id, s.stockName, s.stockPrice, ps.quantity, ps.costBasis, ps.realizedPnl)"
+            + " from PlayerStock ps join ps.stock s where ps.player.playerId = :playerId order by s.id")
+    List<PlayerStockDto> findDtoByPlayerId(@Param("playerId") String playerId);
+
     // 특정 플레이어가 특정 주식을 보유하고 있는지 확인(있으면 1건)
     Optional<PlayerStock> findByPlayerAndStock(Player player, Stock stock);
+
+    // 보유 수량이 충분할 때만 매도 수량만큼 차감하고, 평균 단가 기준 원가를 빼서 실현 손익에 반영 (amount: 매도 금액)
+    // 변경 전 [quantity, cost_basis_micros] 1건 반환, 비어 있으면 수량 부족 또는 보유 내역 없음 (H2 OLD TABLE)
+    // 주의: 행을 돌려받아야 해서 @Modifying(executeUpdate) 이 아니라 조회(getResultList)로 실행되는 데이터 변경 쿼리
+    // - 영속성 컨텍스트를 비우지 않으므로 같은 트랜잭션에서 먼저 읽은 PlayerStock 엔티티는 갱신 전 값 그대로 (주문 처리는 엔티티를 읽지 않음)
+    // - 쓰기 트랜잭션 안에서만 호출 (읽기 전용 기본 트랜잭션 대신 @Transactional 지정)
+    // - 매도 원가 cost x :quantity / quantity 는 BIGINT 곱셈 오버플로를 피해 몫/나머지로 나눠 계산 (MoneyTool.share 와 같은 식)
+    @Transactional
+    @Query(value = "SELECT quantity, cost_basis_micros FROM OLD TABLE (UPDATE player_stock"
+            + " SET quantity = quantity - :quantity,"
+            + " cost_basis_micros = cost_basis_micros - " + SOLD_COST + ","
+            + " realized_pnl_micros = realized_pnl_micros + :amount - " + SOLD_COST
+            + " WHERE player_id = :playerId AND stock_id = :stockId AND quantity >= :quantity)",
+            nativeQuery = true)
+    List<Object[]> sellQuantity(@Param("playerId") String playerId, @Param("stockId") Long stockId,
+            @Param("quantity") int quantity, @Param("amount") long amount);
+
+    // 보유 내역이 있으면 수량/원가/실현 손익에 더하고, 없으면 새로 생성 (H2 MERGE)
+    // 매수는 (수량, 매수 금액, 0), 취소/재생은 음수 포함 보정값
+    @Modifying
+    @Query(value = "MERGE INTO player_stock t"
+            + " USING (SELECT CAST(:playerId AS VARCHAR(255)) AS player_id, CAST(:stockId AS BIGINT) AS stock_id) s"
+            + " ON t.player_id = s.player_id AND t.stock_id = s.stock_id"
+            + " WHEN MATCHED THEN UPDATE SET quantity = t.quantity + :quantity,"
+            + " cost_basis_micros = t.cost_basis_micros + :cost, realized_pnl_micros = t.realized_pnl_micros + :realized"
+            + " WHEN NOT MATCHED THEN INSERT (player_id, stock_id, quantity, cost_basis_micros, realized_pnl_micros)"
+            + " VALUES (s.player_id, s.stock_id, :quantity, :cost, :realized)",
+            nativeQuery = true)
+    int addPosition(@Param("playerId") String playerId, @Param("stockId") Long stockId,
+            @Param("quantity") int quantity, @Param("cost") long cost, @Param("realized") long realized);
+
+    // 저널 재생 전 플레이어의 보유 내역 전체 삭제
+    @Modifying
+    @Query("delete from PlayerStock ps where ps.player.playerId = :playerId")
+    int deleteByPlayerId(@Param("playerId") String playerId);
+
+    // 엔티티 로딩 없이 보유 수량만 조회
+    @Query("select ps.quantity from PlayerStock ps where ps.player.playerId = :playerId and ps.stock.id = :stockId")
+    Optional<Integer> findQuantity(@Param("playerId") String playerId, @Param("stockId") Long stockId);
+
+    // 순위표 적재용 [playerId, stockId, quantity, costBasis]
+    @Query("select ps.player.playerId, ps.stock.id, ps.quantity, ps.costBasis from PlayerStock ps")
+    List<Object[]> findAllPositions();
 }
@@ -2,6 +2,8 @@ package com.sk.skala.stockapi.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.sk.skala.stockapi.data.table.Stock;
@@ -9,4 +11,7 @@ import com.sk.skala.stockapi.data.table.Stock;
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
     Optional<Stock> findByStockName(String stockName);
+
+    // 키셋 페이지 (id > after, COUNT 쿼리 없음)
+    Slice<Stock> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
 }
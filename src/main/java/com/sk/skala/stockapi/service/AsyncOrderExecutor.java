@@ -0,0 +1,249 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.engine.MatchingEngine;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수/실행.
+ * - 접수: 필드 검증 + 주문번호 발급 후 바로 ACCEPTED 반환 (DB 접근 없음)
+ * - 실행: 고정 크기 스레드 풀 + 크기 제한 큐 (가득 차면 ORDER_QUEUE_FULL)
+ *   시퀀서가 켜져 있으면 다른 주문 경로와 같은 플레이어 lane 에 넣고 커밋 결과를 콜백으로 기록
+ *   (시퀀서 동기 주문이 timeout 된 경우도 여기에 등록해서 같은 방식으로 상태 조회)
+ * - 상태 조회: 실행 결과 + 호가창 잔량으로 현재 상태 계산 (대기 주문은 자기 지정가로만 체결되므로 평균가 계산 가능)
+ * - 완료된 주문은 retention 건까지만 보관, 이후 조회는 호가창에 남은 주문만 가능
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AsyncOrderExecutor {
+
+    private final OrderService orderService;
+    private final OrderSequencer orderSequencer;
+    private final MatchingEngine matchingEngine;
+    private final ApplicationProperties applicationProperties;
+
+    private final Map<Long, TrackedOrder> orders = new ConcurrentHashMap<>();
+    private final Queue<Long> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+
+    private ThreadPoolExecutor executor;
+    private int retention;
+
+    @PostConstruct
+    public void start() {
+        ApplicationProperties.AsyncOrder config = applicationProperties.getAsyncOrder();
+        int threads = config.getThreads() > 0 ? config.getThreads() : Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger index = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getCapacity()), r -> {
+                    Thread thread = new Thread(r, "async-order-" + index.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        retention = config.getRetention();
+        orderSequencer.setPendingTracker(this::track);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // 검증 후 접수 (실행은 풀에서)
+    public OrderResult accept(String playerId, StockOrder order) {
+        if (order == null || order.getSide() == null) {
+            throw new ParameterException("side");
+        }
+        orderService.validate(order);
+
+        TrackedOrder tracked = new TrackedOrder(playerId, order.getSide(), order, matchingEngine.nextOrderId());
+        // 접수 응답은 실행 전에 만들어 둠 (실행이 먼저 끝나도 응답은 항상 ACCEPTED)
+        OrderResult accepted = snapshot(tracked);
+        orders.put(tracked.orderId, tracked);
+        if (orderSequencer.isEnabled()) {
+            try {
+                orderSequencer.submit(playerId, order.getSide(), order, tracked.orderId).getFuture()
+                        .whenComplete((result, error) -> complete(tracked, result, error));
+            } catch (ResponseException e) {
+                orders.remove(tracked.orderId);
+                throw e;
+            }
+            return accepted;
+        }
+        try {
+            executor.execute(SessionContext.wrap(() -> run(tracked)));
+        } catch (RejectedExecutionException e) {
+            orders.remove(tracked.orderId);
+            throw new ResponseException(Error.ORDER_QUEUE_FULL);
+        }
+        return accepted;
+    }
+
+    // 주문 상태 조회 (본인 주문만)
+    public OrderResult getOrder(String playerId, Long orderId) {
+        if (orderId == null || orderId <= 0) {
+            throw new ParameterException("orderId");
+        }
+
+        TrackedOrder tracked = orders.get(orderId);
+        if (tracked == null) {
+            OrderResult resting = orderService.findRestingOrder(playerId, orderId);
+            if (resting == null) {
+                throw new ResponseException(Error.DATA_NOT_FOUND, "Order not found");
+            }
+            return resting;
+        }
+        if (!playerId.equals(tracked.playerId)) {
+            throw new ResponseException(Error.NOT_AUTHORIZED);
+        }
+        return snapshot(tracked);
+    }
+
+    // 취소된 주문은 이후 조회에서 CANCELLED 로 표시
+    public void markCancelled(OrderResult cancelled) {
+        TrackedOrder tracked = orders.get(cancelled.getOrderId());
+        if (tracked != null) {
+            tracked.cancelledRemaining = cancelled.getRemainingQuantity();
+        }
+    }
+
+    // 시퀀서에서 기다리다 timeout 된 주문: 커밋 결과를 콜백으로 기록하고 지금은 ACCEPTED 반환
+    private OrderResult track(OrderTask task) {
+        TrackedOrder tracked = new TrackedOrder(task.getPlayerId(), task.getSide(), task.getOrder(), task.getOrderId());
+        orders.put(tracked.orderId, tracked);
+        task.getFuture().whenComplete((result, error) -> complete(tracked, result, error));
+        return snapshot(tracked);
+    }
+
+    private void run(TrackedOrder tracked) {
+        try {
+            complete(tracked, orderService.placeOrder(tracked.playerId, tracked.side, tracked.order, tracked.orderId),
+                    null);
+        } catch (RuntimeException e) {
+            complete(tracked, null, e);
+        }
+    }
+
+    private void complete(TrackedOrder tracked, OrderResult result, Throwable error) {
+        if (error == null) {
+            tracked.takerFilled = result.getFilledQuantity();
+            tracked.takerNotional = result.getNotional();
+            tracked.result = result;
+        } else {
+            if (!(error instanceof ResponseException) && !(error instanceof ParameterException)) {
+                log.error("AsyncOrderExecutor.run: {}", error.getMessage());
+            }
+            tracked.result = rejected(tracked, error.getMessage());
+        }
+        retire(tracked.orderId);
+    }
+
+    private void retire(long orderId) {
+        completed.add(orderId);
+        if (completedCount.incrementAndGet() > retention) {
+            Long oldest = completed.poll();
+            if (oldest != null) {
+                completedCount.decrementAndGet();
+                orders.remove(oldest);
+            }
+        }
+    }
+
+    private OrderResult rejected(TrackedOrder tracked, String message) {
+        OrderResult result = base(tracked);
+        result.setStatus(OrderResult.Status.REJECTED);
+        result.setRemainingQuantity(tracked.order.getStockQuantity());
+        result.setMessage(message);
+        return result;
+    }
+
+    private OrderResult snapshot(TrackedOrder tracked) {
+        OrderResult result = tracked.result;
+        if (result == null) {
+            OrderResult accepted = base(tracked);
+            accepted.setStatus(OrderResult.Status.ACCEPTED);
+            accepted.setRemainingQuantity(tracked.order.getStockQuantity());
+            return accepted;
+        }
+        if (result.getStatus() != OrderResult.Status.RESTING
+                && result.getStatus() != OrderResult.Status.PARTIALLY_FILLED) {
+            return result;
+        }
+
+        // 호가창 잔량 반영 (호가창에 없으면 취소됐거나 전량 체결)
+        int quantity = tracked.order.getStockQuantity();
+        Integer cancelledRemaining = tracked.cancelledRemaining;
+        OrderResult live = cancelledRemaining == null ? orderService.findRestingOrder(tracked.playerId, tracked.orderId)
+                : null;
+        int remaining = cancelledRemaining != null ? cancelledRemaining : live != null ? live.getRemainingQuantity() : 0;
+        int filled = quantity - remaining;
+        int makerFilled = filled - tracked.takerFilled;
+
+        OrderResult current = base(tracked);
+        current.setFilledQuantity(filled);
+        current.setRemainingQuantity(remaining);
+        if (filled > 0) {
+            long notional = tracked.takerNotional + MoneyTool.multiply(tracked.order.getLimitPrice(), makerFilled);
+            current.setAveragePrice(notional / filled);
+        }
+        current.setStatus(cancelledRemaining != null ? OrderResult.Status.CANCELLED
+                : remaining == 0 ? OrderResult.Status.FILLED
+                : filled > 0 ? OrderResult.Status.PARTIALLY_FILLED
+                : OrderResult.Status.RESTING);
+        return current;
+    }
+
+    private OrderResult base(TrackedOrder tracked) {
+        OrderResult result = new OrderResult();
+        result.setOrderId(tracked.orderId);
+        result.setStockId(tracked.order.getStockId());
+        result.setSide(tracked.side);
+        result.setOrderType(tracked.order.getOrderType() == null ? StockOrder.OrderType.MARKET
+                : tracked.order.getOrderType());
+        return result;
+    }
+
+    private static class TrackedOrder {
+        private final String playerId;
+        private final OrderSide side;
+        private final StockOrder order;
+        private final long orderId;
+
+        // 실행 결과 (실행 전에는 null), 결과 기록 전에 체결 정보를 먼저 씀
+        private volatile OrderResult result;
+        private int takerFilled;
+        private long takerNotional;
+        private volatile Integer cancelledRemaining;
+
+        TrackedOrder(String playerId, OrderSide side, StockOrder order, long orderId) {
+            this.playerId = playerId;
+            this.side = side;
+            this.order = order;
+            this.orderId = orderId;
+        }
+    }
+}
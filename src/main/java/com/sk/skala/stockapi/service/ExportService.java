@@ -0,0 +1,126 @@
+package com.sk.skala.stockapi.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.market.PriceSimulator;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플레이어/보유 내역/종목 전체 내보내기 (NDJSON / CSV).
+ * - JDBC 커서(fetch size 단위)로 읽은 행을 바로 응답 스트림에 씀 (목록/엔티티를 만들지 않으므로 행 수와 무관하게 메모리 일정)
+ * - 비밀번호 등 민감 정보는 내보내지 않음
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String PLAYERS_SQL = "select player_id, player_money_micros from player order by player_id";
+    private static final String HOLDINGS_SQL = "select ps.player_id, ps.stock_id, s.stock_name, ps.quantity,"
+            + " ps.cost_basis_micros, ps.realized_pnl_micros"
+            + " from player_stock ps join stock s on s.id = ps.stock_id order by ps.player_id, ps.stock_id";
+    private static final String STOCKS_SQL = "select id, stock_name, stock_price_micros from stock order by id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final PriceSimulator priceSimulator;
+
+    public ExportService(DataSource dataSource, ObjectMapper objectMapper, PriceSimulator priceSimulator) {
+        // 내보내기 전용 (공용 JdbcTemplate 설정은 건드리지 않음)
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.objectMapper = objectMapper;
+        this.priceSimulator = priceSimulator;
+    }
+
+    // 플레이어 (holdings=true 면 보유 내역)
+    public void exportPlayers(String format, boolean holdings, HttpServletResponse response) throws IOException {
+        if (holdings) {
+            ExportWriter writer = open(format, "holdings", response, "playerId", "stockId", "stockName", "quantity",
+                    "costBasis", "realizedPnl");
+            stream(HOLDINGS_SQL, writer, rs -> {
+                writer.text(rs.getString(1));
+                writer.number(rs.getLong(2));
+                writer.text(rs.getString(3));
+                writer.number(rs.getLong(4));
+                writer.money(rs.getLong(5));
+                writer.money(rs.getLong(6));
+            });
+            return;
+        }
+
+        ExportWriter writer = open(format, "players", response, "playerId", "playerMoney");
+        stream(PLAYERS_SQL, writer, rs -> {
+            writer.text(rs.getString(1));
+            writer.money(rs.getLong(2));
+        });
+    }
+
+    // 종목 (가격은 시뮬레이터 현재가)
+    public void exportStocks(String format, HttpServletResponse response) throws IOException {
+        ExportWriter writer = open(format, "stocks", response, "id", "stockName", "stockPrice");
+        stream(STOCKS_SQL, writer, rs -> {
+            long id = rs.getLong(1);
+            writer.number(id);
+            writer.text(rs.getString(2));
+            writer.money(priceSimulator.price(id, rs.getLong(3)));
+        });
+    }
+
+    private ExportWriter open(String format, String name, HttpServletResponse response, String... columns)
+            throws IOException {
+        boolean csv;
+        if ("csv".equalsIgnoreCase(format)) {
+            csv = true;
+        } else if (format == null || "ndjson".equalsIgnoreCase(format)) {
+            csv = false;
+        } else {
+            throw new ParameterException("format");
+        }
+
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + (csv ? ".csv" : ".ndjson") + "\"");
+        OutputStream out = response.getOutputStream();
+        return csv ? ExportWriter.csv(out, columns) : ExportWriter.ndjson(objectMapper.getFactory(), out, columns);
+    }
+
+    private void stream(String sql, ExportWriter writer, RowWriter row) throws IOException {
+        long started = System.currentTimeMillis();
+        long[] rows = new long[1];
+        try {
+            jdbcTemplate.query(sql, (ResultSet rs) -> {
+                try {
+                    row.write(rs);
+                    writer.endRow();
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        log.debug("Export finished: rows={}, elapsed={}ms", rows[0], System.currentTimeMillis() - started);
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,172 @@
+package com.sk.skala.stockapi.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+/**
+ * 내보내기 행 출력 (NDJSON / CSV).
+ * - 행마다 text/number/money 를 열 순서대로 호출하고 endRow()
+ * - 생성기/Writer, 열 이름, 금액 변환 버퍼를 전체 행에서 재사용 (행당 객체 생성 최소화)
+ */
+abstract class ExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final char[] money = new char[32];
+    protected int column;
+
+    static ExportWriter ndjson(JsonFactory factory, OutputStream out, String... columns) throws IOException {
+        return new Ndjson(factory, out, columns);
+    }
+
+    static ExportWriter csv(OutputStream out, String... columns) throws IOException {
+        return new Csv(out, columns);
+    }
+
+    abstract void text(String value) throws IOException;
+
+    abstract void number(long value) throws IOException;
+
+    abstract void money(long micros) throws IOException;
+
+    abstract void endRow() throws IOException;
+
+    // 남은 버퍼 내보내기 (스트림은 닫지 않음)
+    abstract void finish() throws IOException;
+
+    // 한 줄에 JSON 객체 하나
+    private static class Ndjson extends ExportWriter {
+        private final JsonGenerator generator;
+        private final SerializableString[] names;
+        private boolean written;
+
+        Ndjson(JsonFactory factory, OutputStream out, String[] columns) throws IOException {
+            generator = factory.createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            names = new SerializableString[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                names[i] = new SerializedString(columns[i]);
+            }
+        }
+
+        private void field() throws IOException {
+            if (column == 0) {
+                generator.writeStartObject();
+            }
+            generator.writeFieldName(names[column++]);
+        }
+
+        @Override
+        void text(String value) throws IOException {
+            field();
+            generator.writeString(value);
+        }
+
+        @Override
+        void number(long value) throws IOException {
+            field();
+            generator.writeNumber(value);
+        }
+
+        @Override
+        void money(long micros) throws IOException {
+            field();
+            generator.writeNumber(money, 0, MoneyTool.format(micros, money));
+        }
+
+        @Override
+        void endRow() throws IOException {
+            generator.writeEndObject();
+            column = 0;
+            written = true;
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (written) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+
+    // 첫 줄은 열 이름, 쉼표/따옴표/줄바꿈이 들어간 값만 따옴표로 감쌈
+    private static class Csv extends ExportWriter {
+        private final Writer writer;
+
+        Csv(OutputStream out, String[] columns) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            for (String name : columns) {
+                text(name);
+            }
+            endRow();
+        }
+
+        private void separator() throws IOException {
+            if (column++ > 0) {
+                writer.write(',');
+            }
+        }
+
+        @Override
+        void text(String value) throws IOException {
+            separator();
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+
+        @Override
+        void number(long value) throws IOException {
+            separator();
+            writer.write(Long.toString(value));
+        }
+
+        @Override
+        void money(long micros) throws IOException {
+            separator();
+            writer.write(money, 0, MoneyTool.format(micros, money));
+        }
+
+        @Override
+        void endRow() throws IOException {
+            writer.write('\n');
+            column = 0;
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.exception.ResponseException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Idempotency-Key 별 주문 응답 캐시.
+ * - 키 해시로 나눈 stripe 단위로만 잠금 (stripe 마다 삽입 순서 LinkedHashMap, 용량/TTL 초과분은 오래된 것부터 제거)
+ * - 같은 키가 처리 중이면 새로 실행하지 않고 먼저 들어온 요청의 결과를 기다림
+ * - 실행 전에 확정된 거절(검증 오류, 잔액 부족 등)은 캐시하지 않음 (대기 중인 중복 요청에는 같은 예외 전달, 이후 재시도는 다시 실행)
+ *   결과를 알 수 없는 실패(SYSTEM_ERROR 등)는 이미 반영됐을 수 있으므로 남겨서 재시도에도 같은 예외
+ * - 처리 중(ACCEPTED)으로 먼저 응답한 요청은 최종 결과가 나오면 캐시된 응답을 그 결과로 바꿈
+ * - 같은 키로 다른 요청 본문이 오면 INVALID_PARAMETER
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCache {
+
+    private final ApplicationProperties applicationProperties;
+
+    private Stripe[] stripes;
+    private int stripeCapacity;
+    private long ttl;
+    private long timeout;
+
+    @PostConstruct
+    public void init() {
+        ApplicationProperties.Idempotency config = applicationProperties.getIdempotency();
+        stripes = new Stripe[Math.max(1, config.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeCapacity = Math.max(1, config.getCapacity() / stripes.length);
+        ttl = config.getTtl();
+        timeout = config.getTimeout();
+    }
+
+    // scope(플레이어) + key 로 한 번만 실행, key 가 없으면 그냥 실행
+    public Response execute(String scope, String key, Object request, Supplier<Response> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String cacheKey = scope + '\n' + key;
+        Stripe stripe = stripe(cacheKey);
+        long now = System.currentTimeMillis();
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (stripe) {
+            stripe.evict(now, stripeCapacity);
+            entry = stripe.entries.get(cacheKey);
+            if (entry == null) {
+                entry = new Entry(request, now + ttl);
+                stripe.entries.put(cacheKey, entry);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            if (!Objects.equals(entry.request, request)) {
+                throw new ResponseException(Error.INVALID_PARAMETER, "Idempotency-Key reused");
+            }
+            return await(entry);
+        }
+
+        try {
+            Response response = action.get();
+            entry.future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            if (isRejection(e)) {
+                synchronized (stripe) {
+                    stripe.entries.remove(cacheKey, entry);
+                }
+            }
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 처리 중인 요청(execute 의 action 안에서 호출): outcome 이 끝나면 같은 키 재요청에는 그 결과를 반환
+    public void completeWith(String scope, String key, CompletableFuture<Response> outcome) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+
+        String cacheKey = scope + '\n' + key;
+        Stripe stripe = stripe(cacheKey);
+        Entry entry;
+        synchronized (stripe) {
+            entry = stripe.entries.get(cacheKey);
+        }
+        if (entry != null) {
+            outcome.thenAccept(response -> entry.outcome = response);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String cacheKey) {
+        return stripes[Math.floorMod(cacheKey.hashCode(), stripes.length)];
+    }
+
+    // 실행 전에 거절돼서 아무것도 반영되지 않은 실패
+    private static boolean isRejection(RuntimeException e) {
+        if (e instanceof ParameterException) {
+            return true;
+        }
+        return e instanceof ResponseException && ((ResponseException) e).getCode() != Error.SYSTEM_ERROR.getCode();
+    }
+
+    private Response await(Entry entry) {
+        try {
+            Response response = entry.future.get(timeout, TimeUnit.MILLISECONDS);
+            Response outcome = entry.outcome;
+            return outcome != null ? outcome : response;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ResponseException(Error.SYSTEM_ERROR, e.getMessage());
+        } catch (TimeoutException e) {
+            throw new ResponseException(Error.SYSTEM_ERROR, "idempotent request timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseException(Error.SYSTEM_ERROR, "interrupted");
+        }
+    }
+
+    private static class Entry {
+        private final Object request;
+        private final long expiresAt;
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        // completeWith 로 받은 최종 결과
+        private volatile Response outcome;
+
+        Entry(Object request, long expiresAt) {
+            this.request = request;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Stripe {
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+        // 만료된 것과 용량 초과분 제거 (처리 중인 항목은 만료 전까지 유지)
+        void evict(long now, int capacity) {
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next().getValue();
+                if (entry.expiresAt <= now || (entries.size() >= capacity && entry.future.isDone())) {
+                    it.remove();
+                } else if (entries.size() < capacity) {
+                    break;
+                }
+            }
+        }
+    }
+}
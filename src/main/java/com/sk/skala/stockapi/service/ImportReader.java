@@ -0,0 +1,240 @@
+package com.sk.skala.stockapi.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.sk.skala.stockapi.exception.ParameterException;
+
+/**
+ * 가져오기 행 읽기 (NDJSON / CSV), ExportWriter 의 반대 방향.
+ * - 본문을 한 행씩 읽어서 열 순서대로 값(문자열)을 채움 → 본문 전체를 메모리에 올리지 않음
+ * - 형식이 틀린 행은 error() 에 사유를 남기고 다음 행부터 계속 읽음
+ */
+abstract class ImportReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final BufferedReader reader;
+    protected final String[] columns;
+    protected final String[] values;
+    protected long row;
+    protected String error;
+
+    protected ImportReader(InputStream in, String[] columns) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.columns = columns;
+        this.values = new String[columns.length];
+    }
+
+    static ImportReader ndjson(JsonFactory factory, InputStream in, String... columns) {
+        return new Ndjson(factory, in, columns);
+    }
+
+    // 첫 줄은 열 이름 (순서 무관, 모르는 열은 무시), 앞의 required 개 열은 헤더에 반드시 있어야 함
+    static ImportReader csv(InputStream in, int required, String... columns) throws IOException {
+        return new Csv(in, required, columns);
+    }
+
+    // 다음 행 (없으면 false)
+    abstract boolean next() throws IOException;
+
+    // 값이 없으면 null
+    String get(int column) {
+        return values[column];
+    }
+
+    long row() {
+        return row;
+    }
+
+    // 형식 오류 사유 (정상 행이면 null)
+    String error() {
+        return error;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected int indexOf(String name) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 한 줄에 JSON 객체 하나 (줄 단위로 파싱하므로 깨진 줄만 건너뜀)
+    private static class Ndjson extends ImportReader {
+        private final JsonFactory factory;
+
+        Ndjson(JsonFactory factory, InputStream in, String[] columns) {
+            super(in, columns);
+            this.factory = factory;
+        }
+
+        @Override
+        boolean next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+            } while (line.isBlank());
+
+            row++;
+            error = null;
+            Arrays.fill(values, null);
+            try (JsonParser parser = factory.createParser(line)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    error = "JSON object expected";
+                    return true;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    int column = indexOf(parser.getCurrentName());
+                    JsonToken token = parser.nextToken();
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    } else if (column >= 0 && token != JsonToken.VALUE_NULL) {
+                        values[column] = parser.getText();
+                    }
+                }
+                if (parser.nextToken() != null) {
+                    error = "Trailing content";
+                }
+            } catch (JsonProcessingException e) {
+                error = e.getOriginalMessage();
+            }
+            return true;
+        }
+    }
+
+    // RFC 4180 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프)
+    private static class Csv extends ImportReader {
+        private final StringBuilder field = new StringBuilder();
+        // 헤더의 n 번째 열 → columns 인덱스 (모르는 열은 -1)
+        private int[] mapping;
+        private int next = -2;
+
+        Csv(InputStream in, int required, String[] columns) throws IOException {
+            super(in, columns);
+            if (!readRecord(null)) {
+                throw new ParameterException(columns[0]);
+            }
+            for (int i = 0; i < required; i++) {
+                if (!contains(mapping, i)) {
+                    throw new ParameterException(columns[i]);
+                }
+            }
+        }
+
+        private static boolean contains(int[] array, int value) {
+            for (int v : array) {
+                if (v == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean next() throws IOException {
+            Arrays.fill(values, null);
+            error = null;
+            if (!readRecord(values)) {
+                return false;
+            }
+            row++;
+            return true;
+        }
+
+        private int read() throws IOException {
+            if (next != -2) {
+                int c = next;
+                next = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        // 레코드 하나 읽기 (target 이 null 이면 헤더 → mapping 생성), 빈 줄은 건너뜀, 끝이면 false
+        private boolean readRecord(String[] target) throws IOException {
+            int c = read();
+            while (c == '\n' || c == '\r') {
+                c = read();
+            }
+            if (c == -1) {
+                return false;
+            }
+
+            int[] header = target == null ? new int[8] : null;
+            int index = 0;
+            boolean quoted = false;
+            field.setLength(0);
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        error = "Unterminated quote";
+                        break;
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                    c = read();
+                    continue;
+                }
+
+                if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',' || c == '\n' || c == '\r' || c == -1) {
+                    String value = field.toString();
+                    field.setLength(0);
+                    if (header != null) {
+                        if (index == header.length) {
+                            header = Arrays.copyOf(header, index * 2);
+                        }
+                        header[index] = indexOf(value.replace("\uFEFF", "").trim());
+                    } else if (index < mapping.length && mapping[index] >= 0) {
+                        target[mapping[index]] = value;
+                    } else if (index >= mapping.length) {
+                        error = "Too many fields";
+                    }
+                    index++;
+                    if (c != ',') {
+                        if (c == '\r') {
+                            int lf = read();
+                            if (lf != '\n') {
+                                next = lf;
+                            }
+                        }
+                        break;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            if (header != null) {
+                mapping = Arrays.copyOf(header, index);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.sk.skala.stockapi.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.ImportReport;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.journal.JournalRecord;
+import com.sk.skala.stockapi.journal.TradeJournal;
+import com.sk.skala.stockapi.market.CandleStore;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.market.PriceStream;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플레이어/종목 대량 가져오기 (NDJSON / CSV).
+ * - 본문을 한 행씩 읽어서 검증, 중복은 시작 시 한 번 읽은 기존 키 집합(메모리)으로 판단
+ * - chunk-size 건씩 JDBC 배치 INSERT, 묶음마다 트랜잭션 하나
+ * - 묶음이 실패하면(동시에 같은 키 생성 등) 그 묶음만 한 건씩 다시 넣어서 실패한 행만 보고
+ * - 반영된 행은 createPlayer/createStock 과 같이 저널/순위표/시세에 반영
+ */
+@Service
+@Slf4j
+public class ImportService {
+
+    private static final String PLAYER_IDS_SQL = "select player_id from player";
+    private static final String STOCK_NAMES_SQL = "select stock_name from stock";
+    private static final String INSERT_PLAYER_SQL =
+            "insert into player (player_id, player_password, player_money_micros) values (?, ?, ?)";
+    private static final String INSERT_STOCK_SQL = "insert into stock (stock_name, stock_price_micros) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationProperties applicationProperties;
+    private final TradeJournal tradeJournal;
+    private final Leaderboard leaderboard;
+    private final StockCache stockCache;
+    private final PriceSimulator priceSimulator;
+    private final PriceStream priceStream;
+    private final CandleStore candleStore;
+
+    public ImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, ApplicationProperties applicationProperties, TradeJournal tradeJournal,
+            Leaderboard leaderboard, StockCache stockCache, PriceSimulator priceSimulator, PriceStream priceStream,
+            CandleStore candleStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.applicationProperties = applicationProperties;
+        this.tradeJournal = tradeJournal;
+        this.leaderboard = leaderboard;
+        this.stockCache = stockCache;
+        this.priceSimulator = priceSimulator;
+        this.priceStream = priceStream;
+        this.candleStore = candleStore;
+    }
+
+    private Response ok(Object body) {
+        Response response = new Response();
+        response.setResult(Response.SUCCESS);
+        response.setBody(body);
+        return response;
+    }
+
+    // 플레이어 가져오기 (열: playerId, playerPassword, playerMoney)
+    public Response importPlayers(String format, InputStream in) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportReport report = new ImportReport();
+        Set<String> keys = new HashSet<>(jdbcTemplate.queryForList(PLAYER_IDS_SQL, String.class));
+        List<Row> chunk = new ArrayList<>();
+
+        try (ImportReader reader = open(format, in, 2, "playerId", "playerPassword", "playerMoney")) {
+            while (reader.next()) {
+                Row row = new Row(reader.row(), reader.get(0));
+                report.setTotal(report.getTotal() + 1);
+                if (reader.error() != null) {
+                    reject(report, row, Error.INVALID_PARAMETER.getCode(), reader.error());
+                    continue;
+                }
+                if (isBlank(row.key) || isBlank(reader.get(1))) {
+                    reject(report, row, new ParameterException("playerId", "playerPassword"));
+                    continue;
+                }
+                // 저널 레코드에 고정 길이로 기록되므로 UTF-8 100 바이트까지
+                if (!JournalRecord.isValidId(row.key)) {
+                    reject(report, row, new ParameterException("playerId"));
+                    continue;
+                }
+                row.text = reader.get(1);
+                if (!parseMoney(reader.get(2), row, false)) {
+                    reject(report, row, new ParameterException("playerMoney"));
+                    continue;
+                }
+                if (!keys.add(row.key)) {
+                    reject(report, row, Error.DATA_DUPLICATED.getCode(), Error.DATA_DUPLICATED.getMessage());
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize()) {
+                    flushPlayers(chunk, report);
+                }
+            }
+        }
+        flushPlayers(chunk, report);
+
+        log.info("Players imported: total={}, imported={}, failed={}, elapsed={}ms", report.getTotal(),
+                report.getImported(), report.getFailed(), System.currentTimeMillis() - started);
+        return ok(report);
+    }
+
+    // 종목 가져오기 (열: stockName, stockPrice)
+    public Response importStocks(String format, InputStream in) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportReport report = new ImportReport();
+        Set<String> keys = new HashSet<>(jdbcTemplate.queryForList(STOCK_NAMES_SQL, String.class));
+        List<Row> chunk = new ArrayList<>();
+
+        try (ImportReader reader = open(format, in, 2, "stockName", "stockPrice")) {
+            while (reader.next()) {
+                Row row = new Row(reader.row(), reader.get(0));
+                report.setTotal(report.getTotal() + 1);
+                if (reader.error() != null) {
+                    reject(report, row, Error.INVALID_PARAMETER.getCode(), reader.error());
+                    continue;
+                }
+                if (isBlank(row.key) || !parseMoney(reader.get(1), row, true)) {
+                    reject(report, row, new ParameterException("stockName", "stockPrice"));
+                    continue;
+                }
+                if (!keys.add(row.key)) {
+                    reject(report, row, Error.DATA_DUPLICATED.getCode(), Error.DATA_DUPLICATED.getMessage());
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize()) {
+                    flushStocks(chunk, report);
+                }
+            }
+        }
+        flushStocks(chunk, report);
+
+        log.info("Stocks imported: total={}, imported={}, failed={}, elapsed={}ms", report.getTotal(),
+                report.getImported(), report.getFailed(), System.currentTimeMillis() - started);
+        return ok(report);
+    }
+
+    private void flushPlayers(List<Row> chunk, ImportReport report) {
+        List<Row> inserted = flush(chunk, report, rows -> jdbcTemplate.batchUpdate(INSERT_PLAYER_SQL, rows,
+                rows.size(), (ps, row) -> {
+                    ps.setString(1, row.key);
+                    ps.setString(2, row.text);
+                    ps.setLong(3, row.amount);
+                }));
+        if (inserted.isEmpty()) {
+            return;
+        }
+
+        List<JournalRecord> records = new ArrayList<>(inserted.size());
+        for (Row row : inserted) {
+            records.add(JournalRecord.balance(row.key, row.amount));
+        }
+        tradeJournal.append(records);
+        for (Row row : inserted) {
+            leaderboard.onBalance(row.key, row.amount);
+        }
+    }
+
+    private void flushStocks(List<Row> chunk, ImportReport report) {
+        // IDENTITY 키는 배치 실행 후 getGeneratedKeys 로 한 번에 받음
+        List<Row> inserted = flush(chunk, report, rows -> jdbcTemplate.execute(
+                con -> con.prepareStatement(INSERT_STOCK_SQL, new String[] { "id" }),
+                (PreparedStatement ps) -> {
+                    for (Row row : rows) {
+                        ps.setString(1, row.key);
+                        ps.setLong(2, row.amount);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        for (Row row : rows) {
+                            keys.next();
+                            row.id = keys.getLong(1);
+                        }
+                    }
+                    return null;
+                }));
+
+        if (inserted.isEmpty()) {
+            return;
+        }
+
+        // 시세 관련 반영은 묶음 단위로 한 번씩 (종목마다 호출하면 시뮬레이터 slot 배열 복사가 종목 수의 제곱)
+        List<Stock> stocks = new ArrayList<>(inserted.size());
+        long[] ids = new long[inserted.size()];
+        long[] prices = new long[inserted.size()];
+        for (int i = 0; i < inserted.size(); i++) {
+            Row row = inserted.get(i);
+            stockCache.invalidate(row.id);
+            stocks.add(new Stock(row.id, row.key, row.amount));
+            ids[i] = row.id;
+            prices[i] = row.amount;
+        }
+        priceSimulator.register(stocks);
+        priceStream.publish(ids, prices);
+        candleStore.onPrices(ids, prices);
+        leaderboard.onPrices(ids, prices);
+    }
+
+    // 묶음을 트랜잭션 하나로 INSERT, 실패하면 한 건씩 다시 시도 → 반영된 행 반환 (chunk 는 비움)
+    private List<Row> flush(List<Row> chunk, ImportReport report, Consumer<List<Row>> insert) {
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+
+        List<Row> inserted = new ArrayList<>(chunk);
+        chunk.clear();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert.accept(inserted));
+        } catch (DataAccessException e) {
+            log.debug("Import batch failed, retrying rows one by one: {}", e.getMessage());
+            List<Row> rows = new ArrayList<>(inserted);
+            inserted.clear();
+            for (Row row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert.accept(List.of(row)));
+                    inserted.add(row);
+                } catch (DuplicateKeyException ex) {
+                    reject(report, row, Error.DATA_DUPLICATED.getCode(), Error.DATA_DUPLICATED.getMessage());
+                } catch (DataAccessException ex) {
+                    reject(report, row, Error.SYSTEM_ERROR.getCode(), ex.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        report.setImported(report.getImported() + inserted.size());
+        return inserted;
+    }
+
+    private ImportReader open(String format, InputStream in, int required, String... columns) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ImportReader.csv(in, required, columns);
+        }
+        if (format == null || "ndjson".equalsIgnoreCase(format)) {
+            return ImportReader.ndjson(objectMapper.getFactory(), in, columns);
+        }
+        throw new ParameterException("format");
+    }
+
+    // 금액 열 (비어 있으면 0, 음수/형식 오류면 false, positive 면 0 도 거부)
+    private boolean parseMoney(String value, Row row, boolean positive) {
+        if (isBlank(value)) {
+            row.amount = 0;
+            return !positive;
+        }
+        try {
+            row.amount = MoneyTool.parse(value);
+        } catch (NumberFormatException | ArithmeticException e) {
+            return false;
+        }
+        return positive ? row.amount > 0 : row.amount >= 0;
+    }
+
+    private void reject(ImportReport report, Row row, ParameterException e) {
+        reject(report, row, e.getCode(), e.getMessage());
+    }
+
+    private void reject(ImportReport report, Row row, int code, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() >= applicationProperties.getBulkImport().getMaxErrors()) {
+            report.setTruncated(true);
+            return;
+        }
+        ImportReport.RowError error = new ImportReport.RowError();
+        error.setRow(row.row);
+        error.setKey(row.key);
+        error.setCode(code);
+        error.setMessage(message);
+        report.getErrors().add(error);
+    }
+
+    private int chunkSize() {
+        return Math.max(1, applicationProperties.getBulkImport().getChunkSize());
+    }
+
+    private boolean isBlank(String s) {
+        return s == null || s.trim().isEmpty();
+    }
+
+    // 검증을 통과한 행 (플레이어: key=playerId, text=비밀번호, amount=잔액 / 종목: key=종목명, amount=가격)
+    private static class Row {
+        private final long row;
+        private final String key;
+        private String text;
+        private long amount;
+        private long id;
+
+        Row(long row, String key) {
+            this.row = row;
+            this.key = key;
+        }
+    }
+}
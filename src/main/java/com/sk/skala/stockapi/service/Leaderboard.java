@@ -0,0 +1,367 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.data.dto.PlayerRanking;
+import com.sk.skala.stockapi.data.dto.PortfolioDto;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.journal.JournalRecord;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플레이어별 평가(현금, 보유 수량, 매입 원가, 순자산)와 순자산 순위표.
+ * - 기동 완료 시 DB 에서 한 번 적재, 이후에는 체결/잔액 변경/시세 변경마다 바뀐 플레이어만 다시 정렬
+ * - 시세 변경은 종목별 보유자 역인덱스로 해당 종목 보유자만 갱신
+ * - 상위 n 명 O(log n + n), 플레이어 순위 O(log n) (RankTree), 포트폴리오 O(보유 종목 수)
+ * - 매입 원가는 PlayerStock.costBasis 에서 적재, 이후 체결마다 같은 평균 단가 방식으로 갱신
+ * - 변경은 쓰기 잠금, 조회는 읽기 잠금
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class Leaderboard {
+
+    // 순자산 내림차순, 같으면 playerId 순
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong((Entry e) -> -e.netWorth)
+            .thenComparing(e -> e.playerId);
+
+    private final PlayerRepository playerRepository;
+    private final PlayerStockRepository playerStockRepository;
+    private final StockRepository stockRepository;
+    private final PriceSimulator priceSimulator;
+    private final StockCache stockCache;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> players = new HashMap<>();
+    // 종목 id → (playerId → 보유자)
+    private final Map<Long, Map<String, Entry>> holders = new HashMap<>();
+    // 평가에 쓰는 종목별 현재가
+    private final Map<Long, Long> prices = new HashMap<>();
+    private final RankTree<Entry> ranking = new RankTree<>(ORDER);
+
+    @PostConstruct
+    public void init() {
+        priceSimulator.addListener(this::onPrice);
+    }
+
+    // 저널 재생 등 기동 시 DB 변경이 끝난 뒤 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            players.clear();
+            holders.clear();
+            ranking.clear();
+            for (Stock stock : stockRepository.findAll()) {
+                prices.put(stock.getId(), priceSimulator.price(stock.getId(), stock.getStockPrice()));
+            }
+            for (Object[] row : playerRepository.findAllMoney()) {
+                Entry entry = new Entry((String) row[0]);
+                entry.cash = (Long) row[1];
+                entry.netWorth = entry.cash;
+                players.put(entry.playerId, entry);
+            }
+            for (Object[] row : playerStockRepository.findAllPositions()) {
+                Entry entry = players.get((String) row[0]);
+                Long stockId = (Long) row[1];
+                Integer quantity = (Integer) row[2];
+                if (entry == null || quantity == null || quantity == 0) {
+                    continue;
+                }
+                long value = MoneyTool.multiply(prices.getOrDefault(stockId, 0L), quantity);
+                Holding holding = entry.holdings.computeIfAbsent(stockId, k -> new Holding());
+                holding.quantity += quantity;
+                holding.cost += (Long) row[3];
+                holders.computeIfAbsent(stockId, k -> new HashMap<>()).put(entry.playerId, entry);
+                entry.netWorth += value;
+            }
+            for (Entry entry : players.values()) {
+                ranking.add(entry);
+            }
+            log.info("Leaderboard loaded: players={}, stocks={}", players.size(), prices.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 플레이어 생성/잔액 직접 변경
+    public void onBalance(String playerId, long money) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = players.get(playerId);
+            if (entry == null) {
+                entry = new Entry(playerId);
+                entry.cash = money;
+                entry.netWorth = money;
+                players.put(playerId, entry);
+                ranking.add(entry);
+                return;
+            }
+            reposition(entry, entry.netWorth - entry.cash + money);
+            entry.cash = money;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onRemove(String playerId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = players.remove(playerId);
+            if (entry == null) {
+                return;
+            }
+            ranking.remove(entry);
+            for (Long stockId : entry.holdings.keySet()) {
+                Map<String, Entry> stockHolders = holders.get(stockId);
+                if (stockHolders != null) {
+                    stockHolders.remove(playerId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 커밋된 체결 반영 (하우스 쪽은 건너뜀)
+    public void onTrades(List<JournalRecord> trades) {
+        lock.writeLock().lock();
+        try {
+            for (JournalRecord trade : trades) {
+                if (trade.getType() != JournalRecord.TRADE) {
+                    continue;
+                }
+                long mark = prices.computeIfAbsent(trade.getStockId(), k -> trade.getAmount());
+                long cost = MoneyTool.multiply(trade.getAmount(), trade.getQuantity());
+                apply(trade.getBuyer(), trade.getStockId(), trade.getQuantity(), cost, mark);
+                apply(trade.getSeller(), trade.getStockId(), -trade.getQuantity(), cost, mark);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시세 변경 (해당 종목 보유자만 평가액 갱신)
+    public void onPrice(long stockId, long price) {
+        lock.writeLock().lock();
+        try {
+            reprice(stockId, price);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 여러 종목 시세 변경 (대량 가져오기, 잠금 한 번)
+    public void onPrices(long[] stockIds, long[] prices) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < stockIds.length; i++) {
+                reprice(stockIds[i], prices[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 종목 삭제: 보유분을 평가에서 빼고 종목 가격/보유자 정보 제거
+    public void onStockRemove(long stockId) {
+        lock.writeLock().lock();
+        try {
+            Long price = prices.remove(stockId);
+            Map<String, Entry> stockHolders = holders.remove(stockId);
+            if (stockHolders == null) {
+                return;
+            }
+            for (Entry entry : stockHolders.values()) {
+                Holding holding = entry.holdings.remove(stockId);
+                if (holding != null && price != null) {
+                    reposition(entry, entry.netWorth - MoneyTool.multiply(price, holding.quantity));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 상위 top 명
+    public List<PlayerRanking> top(int top) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = ranking.first(top);
+            List<PlayerRanking> result = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                result.add(entries.get(i).toRanking(i + 1));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 플레이어 순위 (없으면 null)
+    public PlayerRanking rank(String playerId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = players.get(playerId);
+            return entry == null ? null : entry.toRanking(ranking.rank(entry) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 플레이어 포트폴리오 (없으면 null)
+    public PortfolioDto portfolio(String playerId) {
+        PortfolioDto dto = new PortfolioDto();
+        lock.readLock().lock();
+        try {
+            Entry entry = players.get(playerId);
+            if (entry == null) {
+                return null;
+            }
+
+            dto.setPlayerId(playerId);
+            dto.setPlayerMoney(entry.cash);
+            dto.setEquity(entry.netWorth);
+            dto.setMarketValue(entry.netWorth - entry.cash);
+            List<PortfolioDto.Holding> items = new ArrayList<>(entry.holdings.size());
+            long totalCost = 0;
+            for (Map.Entry<Long, Holding> held : entry.holdings.entrySet()) {
+                Long stockId = held.getKey();
+                Holding holding = held.getValue();
+                long price = prices.getOrDefault(stockId, 0L);
+                long value = MoneyTool.multiply(price, holding.quantity);
+
+                PortfolioDto.Holding item = new PortfolioDto.Holding();
+                item.setStockId(stockId);
+                item.setQuantity(holding.quantity);
+                item.setStockPrice(price);
+                item.setMarketValue(value);
+                item.setCostBasis(holding.cost);
+                item.setUnrealizedPnl(value - holding.cost);
+                items.add(item);
+                totalCost += holding.cost;
+            }
+            dto.setCostBasis(totalCost);
+            dto.setUnrealizedPnl(dto.getMarketValue() - totalCost);
+            dto.setHoldings(items);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 종목명은 잠금을 푼 뒤 조회 (캐시에 없으면 DB 조회라서 잠금 중에 하면 체결/시세 반영이 그동안 막힘)
+        for (PortfolioDto.Holding item : dto.getHoldings()) {
+            Stock stock = stockCache.get(item.getStockId());
+            item.setStockName(stock == null ? null : stock.getStockName());
+        }
+        return dto;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // write lock 안에서 호출
+    private void reprice(long stockId, long price) {
+        Long previous = prices.put(stockId, price);
+        if (previous == null || previous == price) {
+            return;
+        }
+        Map<String, Entry> stockHolders = holders.get(stockId);
+        if (stockHolders == null) {
+            return;
+        }
+        for (Entry entry : stockHolders.values()) {
+            int quantity = entry.holdings.get(stockId).quantity;
+            reposition(entry, entry.netWorth + MoneyTool.multiply(price - previous, quantity));
+        }
+    }
+
+    // quantity 는 매수면 양수, 매도면 음수 (amount 는 체결 금액)
+    private void apply(String playerId, long stockId, int quantity, long amount, long mark) {
+        Entry entry = JournalRecord.HOUSE.equals(playerId) ? null : players.get(playerId);
+        if (entry == null) {
+            return;
+        }
+        Holding holding = entry.holdings.computeIfAbsent(stockId, k -> new Holding());
+        if (quantity > 0) {
+            holding.cost += amount;
+        } else if (holding.quantity > 0) {
+            holding.cost -= MoneyTool.share(holding.cost, Math.min(-quantity, holding.quantity), holding.quantity);
+        }
+        holding.quantity += quantity;
+        long cashDelta = quantity > 0 ? -amount : amount;
+        if (holding.quantity == 0) {
+            entry.holdings.remove(stockId);
+            Map<String, Entry> stockHolders = holders.get(stockId);
+            if (stockHolders != null) {
+                stockHolders.remove(playerId);
+            }
+        } else {
+            holders.computeIfAbsent(stockId, k -> new HashMap<>()).put(playerId, entry);
+        }
+        entry.cash += cashDelta;
+        reposition(entry, entry.netWorth + cashDelta + MoneyTool.multiply(mark, quantity));
+    }
+
+    // 정렬 키가 바뀌므로 빼고 다시 넣음
+    private void reposition(Entry entry, long netWorth) {
+        if (entry.netWorth == netWorth) {
+            return;
+        }
+        ranking.remove(entry);
+        entry.netWorth = netWorth;
+        ranking.add(entry);
+    }
+
+    private static class Entry {
+        private final String playerId;
+        private final Map<Long, Holding> holdings = new HashMap<>();
+        private long cash;
+        private long netWorth;
+
+        Entry(String playerId) {
+            this.playerId = playerId;
+        }
+
+        PlayerRanking toRanking(int rank) {
+            PlayerRanking ranking = new PlayerRanking();
+            ranking.setRank(rank);
+            ranking.setPlayerId(playerId);
+            ranking.setNetWorth(netWorth);
+            ranking.setPlayerMoney(cash);
+            return ranking;
+        }
+    }
+
+    private static class Holding {
+        private int quantity;
+        // 남은 수량의 매입 원가 합계
+        private long cost;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sk.skala.stockapi.data.table.Stock;
+
+/**
+ * 한 트랜잭션 동안 주문 처리에 쓰는 종목 캐시.
+ * - 처음 조회할 때만 StockCache 조회(없으면 DB), 이후에는 같은 인스턴스 재사용
+ * - 배치 주문은 preload() 로 참조 종목을 한 번에 미리 적재
+ * - 잔액/보유 수량은 캐시하지 않음 (조건부 UPDATE 로 DB 에서 직접 처리)
+ */
+class OrderContext {
+
+    private final StockCache stockCache;
+    private final Map<Long, Stock> stocks = new HashMap<>();
+
+    OrderContext(StockCache stockCache) {
+        this.stockCache = stockCache;
+    }
+
+    void preload(Collection<Long> stockIds) {
+        stocks.putAll(stockCache.getAll(stockIds));
+        for (Long stockId : stockIds) {
+            stocks.putIfAbsent(stockId, null);
+        }
+    }
+
+    // 없으면 null
+    Stock stock(Long stockId) {
+        if (!stocks.containsKey(stockId)) {
+            stocks.put(stockId, stockCache.get(stockId));
+        }
+        return stocks.get(stockId);
+    }
+}
@@ -0,0 +1,243 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.engine.MatchingEngine;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.exception.ResponseException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 시퀀서 (application.sequencer.enabled=true 일 때만 동작).
+ * - playerId 해시로 고정된 lane 에 배정 → 한 플레이어의 주문은 항상 한 스레드에서 순서대로 처리
+ * - lane 은 링 버퍼(고정 크기 배열 큐)에서 쌓인 주문을 꺼내 한 트랜잭션으로 묶어 커밋(group commit)
+ * - 주문번호는 제출 시 발급, timeout 안에 커밋되지 않으면 ACCEPTED(주문번호)로 응답하고 상태 조회로 이어서 확인
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSequencer {
+
+    private final OrderService orderService;
+    private final MatchingEngine matchingEngine;
+    private final ApplicationProperties applicationProperties;
+
+    private Lane[] lanes;
+    // timeout 안에 끝나지 않은 주문을 상태 조회 대상으로 등록하고 ACCEPTED 결과를 돌려줌 (AsyncOrderExecutor)
+    private volatile Function<OrderTask, OrderResult> pendingTracker;
+
+    @PostConstruct
+    public void start() {
+        ApplicationProperties.Sequencer config = applicationProperties.getSequencer();
+        if (config == null || !config.isEnabled()) {
+            return;
+        }
+
+        int count = config.getLanes() > 0 ? config.getLanes() : Runtime.getRuntime().availableProcessors();
+        lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane(i, config.getCapacity(), config.getBatchSize());
+            lanes[i].thread.start();
+        }
+        log.info("OrderSequencer started: lanes={}, capacity={}, batchSize={}", count, config.getCapacity(),
+                config.getBatchSize());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (lanes == null) {
+            return;
+        }
+        for (Lane lane : lanes) {
+            lane.running = false;
+            lane.thread.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return lanes != null;
+    }
+
+    public void setPendingTracker(Function<OrderTask, OrderResult> pendingTracker) {
+        this.pendingTracker = pendingTracker;
+    }
+
+    public OrderTask submit(String playerId, OrderSide side, StockOrder order) {
+        return submit(playerId, side, order, 0);
+    }
+
+    // 접수 시점에 미리 발급한 주문번호로 처리 (비동기 주문), 0 이면 여기서 발급
+    public OrderTask submit(String playerId, OrderSide side, StockOrder order, long orderId) {
+        OrderTask task = new OrderTask(playerId, side, order, orderId > 0 ? orderId : matchingEngine.nextOrderId());
+        Lane lane = lanes[Math.floorMod(playerId.hashCode(), lanes.length)];
+        if (!lane.queue.offer(task)) {
+            throw new ResponseException(Error.ORDER_QUEUE_FULL);
+        }
+        return task;
+    }
+
+    // 제출 후 커밋까지 대기 (timeout 이면 ACCEPTED)
+    public OrderResult execute(String playerId, OrderSide side, StockOrder order) {
+        return await(submit(playerId, side, order));
+    }
+
+    public OrderResult await(OrderTask task) {
+        try {
+            return task.getFuture().get(applicationProperties.getSequencer().getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ResponseException(Error.SYSTEM_ERROR, e.getMessage());
+        } catch (TimeoutException e) {
+            // lane 에 들어간 주문은 취소할 수 없으므로 실패로 응답하지 않고 주문번호로 결과를 조회하게 함
+            return pendingTracker.apply(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseException(Error.SYSTEM_ERROR, "interrupted");
+        }
+    }
+
+    // 배치 주문: 같은 lane 에 순서대로 넣고 주문별 결과를 모아서 반환
+    public List<Response> executeAll(String playerId, List<StockOrder> orders) {
+        return awaitAll(submitAll(playerId, orders));
+    }
+
+    // 배치 주문을 같은 lane 에 순서대로 넣음
+    // 큐가 가득 차는 등 제출에 실패한 주문은 그 예외로 끝난 task 로 기록 (앞서 들어간 주문은 이미 처리 중)
+    public List<OrderTask> submitAll(String playerId, List<StockOrder> orders) {
+        List<OrderTask> tasks = new ArrayList<>(orders.size());
+        for (StockOrder order : orders) {
+            try {
+                if (order == null || order.getSide() == null) {
+                    throw new ParameterException("side");
+                }
+                tasks.add(submit(playerId, order.getSide(), order));
+            } catch (ResponseException e) {
+                tasks.add(OrderTask.failed(playerId, order, e));
+            } catch (ParameterException e) {
+                tasks.add(OrderTask.failed(playerId, order, e));
+            }
+        }
+        return tasks;
+    }
+
+    // 주문별 결과 (timeout 된 주문은 ACCEPTED)
+    public List<Response> awaitAll(List<OrderTask> tasks) {
+        List<Response> results = new ArrayList<>(tasks.size());
+        for (OrderTask task : tasks) {
+            results.add(response(task));
+        }
+        return results;
+    }
+
+    // 커밋까지 끝난 최종 결과 (ACCEPTED 로 먼저 응답한 요청의 Idempotency-Key 캐시를 갱신할 때 사용)
+    public CompletableFuture<Response> outcome(OrderTask task) {
+        return task.getFuture().handle((result, error) -> response(task));
+    }
+
+    public CompletableFuture<List<Response>> outcome(List<OrderTask> tasks) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = tasks.get(i).getFuture();
+        }
+        return CompletableFuture.allOf(futures).handle((result, error) -> awaitAll(tasks));
+    }
+
+    private Response response(OrderTask task) {
+        Response response = new Response();
+        try {
+            response.setResult(Response.SUCCESS);
+            response.setBody(await(task));
+        } catch (ResponseException e) {
+            response.setError(e.getCode(), e.getMessage());
+        } catch (ParameterException e) {
+            response.setError(e.getCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            response.setError(Error.SYSTEM_ERROR.getCode(), e.getMessage());
+        }
+        return response;
+    }
+
+    private class Lane implements Runnable {
+        private final ArrayBlockingQueue<OrderTask> queue;
+        private final List<OrderTask> batch;
+        private final int batchSize;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Lane(int index, int capacity, int batchSize) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.batch = new ArrayList<>(batchSize);
+            this.batchSize = batchSize;
+            this.thread = new Thread(this, "order-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    OrderTask first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    commit();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        // 잔액 부족 등 주문별 실패는 placeOrders 안에서 해당 task 에만 기록
+        // DB 오류로 batch 트랜잭션 전체가 롤백되면(호가창도 되돌려짐) 주문마다 각자 트랜잭션으로 다시 처리
+        // → 실패 원인인 주문만 실패하고 나머지는 반영 (JPA 는 savepoint 를 지원하지 않고 DB 오류 시 트랜잭션을 rollback-only 로 만듦)
+        private void commit() {
+            try {
+                orderService.placeOrders(batch);
+            } catch (RuntimeException e) {
+                log.warn("OrderSequencer.commit: {}, retrying {} orders one by one", e.getMessage(), batch.size());
+                for (OrderTask task : batch) {
+                    retry(task);
+                }
+            }
+            for (OrderTask task : batch) {
+                task.complete();
+            }
+        }
+
+        private void retry(OrderTask task) {
+            task.setError(null);
+            try {
+                task.setResult(orderService.placeOrder(task.getPlayerId(), task.getSide(), task.getOrder(),
+                        task.getOrderId()));
+            } catch (RuntimeException e) {
+                task.setError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.MatchResult;
+import com.sk.skala.stockapi.engine.MatchingEngine;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.engine.RestingOrder;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.journal.JournalRecord;
+import com.sk.skala.stockapi.journal.TradeJournal;
+import com.sk.skala.stockapi.market.CandleStore;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매수/매도 주문 처리.
+ * - 세션과 무관하게 playerId 를 직접 받으므로 요청 스레드 밖(시퀀서 lane 등)에서도 호출 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderService {
+
+    private final StockCache stockCache;
+    private final PlayerRepository playerRepository;
+    private final PlayerStockRepository playerStockRepository;
+    private final MatchingEngine matchingEngine;
+    private final TradeJournal tradeJournal;
+    private final PriceSimulator priceSimulator;
+    private final CandleStore candleStore;
+    private final Leaderboard leaderboard;
+
+    // =========================
+    // 주문 1건 처리 (주문마다 트랜잭션)
+    // =========================
+    @Transactional
+    public OrderResult placeOrder(String playerId, OrderSide side, StockOrder order) {
+        return execute(newContext(), playerId, side, order, 0);
+    }
+
+    // 접수 시점에 미리 발급한 주문번호로 처리 (비동기 주문)
+    @Transactional
+    public OrderResult placeOrder(String playerId, OrderSide side, StockOrder order, long orderId) {
+        return execute(newContext(), playerId, side, order, orderId);
+    }
+
+    // =========================
+    // 주문 여러 건을 순서대로 처리 후 한 번에 커밋
+    // - 주문별 실패(잔액 부족 등)는 해당 task 에만 기록하고 나머지는 계속 처리
+    // - 그 외 예외(잠금 대기 초과, 교착 상태 등 DB 오류)는 트랜잭션 전체를 롤백 (호출 측에서 주문별로 재처리)
+    // =========================
+    @Transactional
+    public void placeOrders(List<OrderTask> tasks) {
+        OrderContext context = newContext();
+        for (OrderTask task : tasks) {
+            try {
+                task.setResult(execute(context, task.getPlayerId(), task.getSide(), task.getOrder(), task.getOrderId()));
+            } catch (ResponseException | ParameterException e) {
+                task.setError(e);
+            }
+        }
+    }
+
+    // =========================
+    // 한 플레이어의 배치 주문 (봇 등 대량 주문용)
+    // - 참조하는 종목을 쿼리 한 번에 미리 적재
+    // - 주문은 요청 순서대로 처리하고 주문별 결과를 반환, 쓰기는 JDBC 배치로 한 번에 커밋
+    // =========================
+    @Transactional
+    public List<Response> placeBatch(String playerId, List<StockOrder> orders) {
+        OrderContext context = newContext();
+        context.preload(orders.stream()
+                .map(StockOrder::getStockId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<Response> results = new ArrayList<>(orders.size());
+        for (StockOrder order : orders) {
+            Response response = new Response();
+            try {
+                if (order == null || order.getSide() == null) {
+                    throw new ParameterException("side");
+                }
+                response.setResult(Response.SUCCESS);
+                response.setBody(execute(context, playerId, order.getSide(), order, 0));
+            } catch (ResponseException e) {
+                response.setError(e.getCode(), e.getMessage());
+            } catch (ParameterException e) {
+                response.setError(e.getCode(), e.getMessage());
+            }
+            results.add(response);
+        }
+        return results;
+    }
+
+    // =========================
+    // 대기 주문 취소
+    // =========================
+    public OrderResult cancelOrder(String playerId, Long orderId) {
+        if (orderId == null || orderId <= 0) {
+            throw new ParameterException("orderId");
+        }
+
+        Long stockId = matchingEngine.findStockId(orderId);
+        if (stockId == null) {
+            throw new ResponseException(Error.DATA_NOT_FOUND, "Order not found");
+        }
+
+        RestingOrder cancelled = matchingEngine.execute(stockId, book -> {
+            RestingOrder resting = book.find(orderId);
+            if (resting == null) {
+                throw new ResponseException(Error.DATA_NOT_FOUND, "Order not found");
+            }
+            if (!playerId.equals(resting.getPlayerId())) {
+                throw new ResponseException(Error.NOT_AUTHORIZED);
+            }
+            return book.cancel(orderId);
+        });
+
+        OrderResult result = restingResult(stockId, cancelled);
+        result.setStatus(OrderResult.Status.CANCELLED);
+        return result;
+    }
+
+    // =========================
+    // 플레이어의 대기 주문 전부 취소 (플레이어 삭제 시, 취소한 건수)
+    // =========================
+    public int cancelAll(String playerId) {
+        return matchingEngine.cancelAll(playerId);
+    }
+
+    // =========================
+    // 호가창에 대기 중인 주문 조회 (없으면 null)
+    // =========================
+    public OrderResult findRestingOrder(String playerId, long orderId) {
+        Long stockId = matchingEngine.findStockId(orderId);
+        if (stockId == null) {
+            return null;
+        }
+
+        RestingOrder resting = matchingEngine.execute(stockId, book -> book.find(orderId));
+        if (resting == null) {
+            return null;
+        }
+        if (!playerId.equals(resting.getPlayerId())) {
+            throw new ResponseException(Error.NOT_AUTHORIZED);
+        }
+        return restingResult(stockId, resting);
+    }
+
+    // 주문 필드 검증 (DB 조회 없음), 주문 유형 반환
+    public StockOrder.OrderType validate(StockOrder order) {
+        // 입력값 검증 (Wrapper 타입: null 체크 필수)
+        if (order == null
+                || order.getStockId() == null || order.getStockId() <= 0
+                || order.getStockQuantity() == null || order.getStockQuantity() <= 0) {
+            throw new ParameterException("stockId", "stockQuantity");
+        }
+
+        StockOrder.OrderType type = order.getOrderType() == null ? StockOrder.OrderType.MARKET : order.getOrderType();
+        if (type == StockOrder.OrderType.LIMIT && (order.getLimitPrice() == null || order.getLimitPrice() <= 0)) {
+            throw new ParameterException("limitPrice");
+        }
+        return type;
+    }
+
+    private OrderResult restingResult(Long stockId, RestingOrder resting) {
+        OrderResult result = new OrderResult();
+        result.setOrderId(resting.getOrderId());
+        result.setStockId(stockId);
+        result.setSide(resting.getSide());
+        result.setOrderType(StockOrder.OrderType.LIMIT);
+        result.setStatus(OrderResult.Status.RESTING);
+        result.setRemainingQuantity(resting.getRemaining());
+        return result;
+    }
+
+    // ==========================================
+    // 주문 처리 공통
+    // - 반대편 대기 주문과 가격/시간 우선으로 매칭
+    // - 현재가(stockPrice)보다 유리한 호가만 먼저 체결하고,
+    //   시장가이거나 지정가가 현재가에 닿으면 남은 수량은 현재가로 체결
+    // - 그 외 지정가 잔량은 호가창에 대기
+    // ==========================================
+    private OrderResult execute(OrderContext context, String playerId, OrderSide side, StockOrder order,
+            long assignedOrderId) {
+
+        StockOrder.OrderType type = validate(order);
+
+        Stock stock = context.stock(order.getStockId());
+        if (stock == null) {
+            throw new ResponseException(Error.DATA_NOT_FOUND, "Stock not found");
+        }
+
+        int quantity = order.getStockQuantity();
+        long marketPrice = priceSimulator.price(stock.getId(), stock.getStockPrice());
+        long limitPrice = type == StockOrder.OrderType.LIMIT ? order.getLimitPrice()
+                : side == OrderSide.BUY ? Long.MAX_VALUE : 0;
+        boolean marketable = side == OrderSide.BUY ? limitPrice >= marketPrice : limitPrice <= marketPrice;
+
+        // 호가창에 대기할 지정가 주문은 접수 시점에 잔액/보유 수량 검증
+        // (즉시 체결되는 주문은 조건부 UPDATE 결과로 검증)
+        if (!marketable) {
+            checkRestingOrder(playerId, side, stock.getId(), limitPrice, quantity);
+        }
+
+        return matchingEngine.execute(stock.getId(), book -> {
+            TradeSettlement settlement = new TradeSettlement(playerRepository, playerStockRepository,
+                    stock.getId(), playerId, side);
+
+            MatchResult match;
+            int remaining;
+            try {
+                match = book.plan(side, marketable ? marketPrice : limitPrice, quantity, settlement);
+                remaining = quantity - match.getFilledQuantity();
+                if (remaining > 0 && marketable) {
+                    settlement.fillAtMarket(marketPrice, remaining);
+                    remaining = 0;
+                }
+            } catch (RuntimeException e) {
+                settlement.rollback();
+                throw e;
+            }
+
+            // 조건부 UPDATE 가 모두 성공한 뒤 호가창 변경 (같은 종목의 다음 주문이 바로 보도록 잠금 안에서 반영)
+            // 트랜잭션이 롤백되면 호가창 변경을 되돌리고, 체결 내역은 커밋 후에만 저널/캔들에 반영
+            book.commit(match);
+            long orderId = assignedOrderId > 0 ? assignedOrderId : matchingEngine.nextOrderId();
+            boolean rested = remaining > 0;
+            if (rested) {
+                book.rest(orderId, playerId, side, limitPrice, remaining);
+            }
+            changes().add(stock.getId(), match, rested ? orderId : 0, settlement.getTrades());
+
+            OrderResult result = new OrderResult();
+            result.setOrderId(orderId);
+            result.setStockId(stock.getId());
+            result.setSide(side);
+            result.setOrderType(type);
+            result.setFilledQuantity(settlement.getFilledQuantity());
+            result.setRemainingQuantity(remaining);
+            result.setNotional(settlement.getNotional());
+            if (settlement.getFilledQuantity() > 0) {
+                result.setAveragePrice(settlement.getNotional() / settlement.getFilledQuantity());
+            }
+            result.setStatus(remaining == 0 ? OrderResult.Status.FILLED
+                    : settlement.getFilledQuantity() > 0 ? OrderResult.Status.PARTIALLY_FILLED
+                    : OrderResult.Status.RESTING);
+            return result;
+        });
+    }
+
+    private void checkRestingOrder(String playerId, OrderSide side, Long stockId, long limitPrice, int quantity) {
+        if (side == OrderSide.BUY) {
+            long money = playerRepository.findMoneyById(playerId)
+                    .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "Player not found"));
+            if (money < MoneyTool.multiply(limitPrice, quantity)) {
+                throw new ResponseException(Error.INSUFFICIENT_FUNDS);
+            }
+        } else {
+            int owned = playerStockRepository.findQuantity(playerId, stockId)
+                    .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "PlayerStock not found"));
+            if (owned < quantity) {
+                throw new ResponseException(Error.INSUFFICIENT_QUANTITY);
+            }
+        }
+    }
+
+    // 현재 트랜잭션의 호가창 변경 기록 (트랜잭션마다 하나, 트랜잭션 밖이면 바로 확정)
+    private BookChanges changes() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new BookChanges();
+        }
+        BookChanges changes = (BookChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new BookChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    /**
+     * 한 트랜잭션에서 호가창에 반영한 변경.
+     * - 커밋되면 체결 내역을 저널/캔들/순위표에 반영
+     * - 롤백되면 호가창 변경을 역순으로 되돌림 (DB 와 호가창 일치)
+     */
+    private class BookChanges implements TransactionSynchronization {
+        private final List<Change> changes = new ArrayList<>();
+        private final List<JournalRecord> trades = new ArrayList<>();
+
+        void add(long stockId, MatchResult match, long restedOrderId, List<JournalRecord> fills) {
+            trades.addAll(fills);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                afterCommit();
+                return;
+            }
+            changes.add(new Change(stockId, match, restedOrderId));
+        }
+
+        @Override
+        public void afterCommit() {
+            if (trades.isEmpty()) {
+                return;
+            }
+            tradeJournal.append(trades);
+            candleStore.onTrades(trades);
+            leaderboard.onTrades(trades);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderService.this);
+            if (status != STATUS_ROLLED_BACK) {
+                return;
+            }
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                Change change = changes.get(i);
+                matchingEngine.execute(change.stockId, book -> {
+                    if (change.restedOrderId > 0) {
+                        book.cancel(change.restedOrderId);
+                    }
+                    book.revert(change.match);
+                    return null;
+                });
+            }
+        }
+    }
+
+    private static class Change {
+        private final long stockId;
+        private final MatchResult match;
+        private final long restedOrderId;
+
+        Change(long stockId, MatchResult match, long restedOrderId) {
+            this.stockId = stockId;
+            this.match = match;
+            this.restedOrderId = restedOrderId;
+        }
+    }
+
+    private OrderContext newContext() {
+        return new OrderContext(stockCache);
+    }
+}
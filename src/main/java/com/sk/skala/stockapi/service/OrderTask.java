@@ -0,0 +1,72 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.engine.OrderSide;
+
+// 시퀀서 lane 에 들어가는 주문 1건 (처리 결과는 커밋 후 future 로 전달)
+public class OrderTask {
+
+    private final String playerId;
+    private final OrderSide side;
+    private final StockOrder order;
+    // 미리 발급한 주문번호 (0 이면 처리 시 발급)
+    private final long orderId;
+    private final CompletableFuture<OrderResult> future = new CompletableFuture<>();
+
+    private OrderResult result;
+    private RuntimeException error;
+
+    public OrderTask(String playerId, OrderSide side, StockOrder order, long orderId) {
+        this.playerId = playerId;
+        this.side = side;
+        this.order = order;
+        this.orderId = orderId;
+    }
+
+    // 제출하지 못한 주문 (예외로 끝난 상태)
+    static OrderTask failed(String playerId, StockOrder order, RuntimeException error) {
+        OrderTask task = new OrderTask(playerId, order == null ? null : order.getSide(), order, 0);
+        task.future.completeExceptionally(error);
+        return task;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public StockOrder getOrder() {
+        return order;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public CompletableFuture<OrderResult> getFuture() {
+        return future;
+    }
+
+    void setResult(OrderResult result) {
+        this.result = result;
+    }
+
+    void setError(RuntimeException error) {
+        this.error = error;
+    }
+
+    // 커밋이 끝난 뒤 호출
+    void complete() {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
+        }
+    }
+}
@@ -2,29 +2,37 @@ package com.sk.skala.stockapi.service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sk.skala.stockapi.config.Error;
 import com.sk.skala.stockapi.data.common.PagedList;
 import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.OrderBatch;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.PlayerRanking;
 import com.sk.skala.stockapi.data.dto.PlayerSession;
 import com.sk.skala.stockapi.data.dto.PlayerStockDto;
 import com.sk.skala.stockapi.data.dto.PlayerStockListDto;
+import com.sk.skala.stockapi.data.dto.PortfolioDto;
 import com.sk.skala.stockapi.data.dto.StockOrder;
 import com.sk.skala.stockapi.data.table.Player;
-import com.sk.skala.stockapi.data.table.PlayerStock;
 import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.OrderSide;
 import com.sk.skala.stockapi.exception.ParameterException;
 import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.journal.JournalRecord;
+import com.sk.skala.stockapi.journal.TradeJournal;
+import com.sk.skala.stockapi.market.PriceSimulator;
 import com.sk.skala.stockapi.repository.PlayerRepository;
 import com.sk.skala.stockapi.repository.PlayerStockRepository;
 import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.StringTool;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,10 +40,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PlayerService {
 
+    // 순위표 한 번에 조회할 수 있는 최대 인원
+    private static final int MAX_LEADERBOARD = 1000;
+    // 커서 조회 한 페이지 최대 건수
+    private static final int MAX_LIMIT = 1000;
+
     private final StockRepository stockRepository;
     private final PlayerRepository playerRepository;
     private final PlayerStockRepository playerStockRepository;
     private final SessionHandler sessionHandler;
+    private final OrderService orderService;
+    private final OrderSequencer orderSequencer;
+    private final TradeJournal tradeJournal;
+    private final IdempotencyCache idempotencyCache;
+    private final AsyncOrderExecutor asyncOrderExecutor;
+    private final PriceSimulator priceSimulator;
+    private final Leaderboard leaderboard;
 
     // ===== 공통 성공 응답 =====
     private Response ok(Object body) {
@@ -59,12 +79,40 @@ public class PlayerService {
         PagedList pagedList = new PagedList();
         pagedList.setTotal(page.getTotalElements());
         pagedList.setCount(page.getNumberOfElements());
-        pagedList.setOffset(offset);
+        pagedList.setOffset(pageable.getOffset());
         pagedList.setList(page.getContent());
 
         return ok(pagedList);
     }
 
+    // 전체 플레이어 목록 커서 조회 (playerId 순, after 가 없으면 처음부터)
+    public Response getPlayersAfter(String after, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ParameterException("limit");
+        }
+        String afterId = "";
+        if (after != null) {
+            try {
+                afterId = StringTool.decodeCursor(after);
+            } catch (IllegalArgumentException e) {
+                throw new ParameterException("after");
+            }
+        }
+
+        Slice<Player> slice = playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc(afterId,
+                PageRequest.of(0, limit));
+        List<Player> players = slice.getContent();
+
+        PagedList pagedList = new PagedList();
+        pagedList.setTotal(-1);
+        pagedList.setCount(players.size());
+        pagedList.setList(players);
+        if (slice.hasNext()) {
+            pagedList.setNext(StringTool.encodeCursor(players.get(players.size() - 1).getPlayerId()));
+        }
+        return ok(pagedList);
+    }
+
     // ==========================================
     // 2) 단일 플레이어 + 보유 주식 목록 조회
     // ==========================================
@@ -74,23 +122,18 @@ public class PlayerService {
             throw new ParameterException("playerId");
         }
 
-        Player player = playerRepository.findById(playerId)
+        // 잔액 1 쿼리 + 보유 주식 1 쿼리 (보유 종목 수와 무관, 엔티티 로딩 없음)
+        long playerMoney = playerRepository.findMoneyById(playerId)
                 .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "Player not found"));
 
-        List<PlayerStock> owned = playerStockRepository.findByPlayer_PlayerId(playerId);
-
-        List<PlayerStockDto> stocks = owned.stream()
-                .map(ps -> PlayerStockDto.builder()
-                        .stockId(ps.getStock().getId())
-                        .stockName(ps.getStock().getStockName())
-                        .stockPrice(ps.getStock().getStockPrice())
-                        .quantity(ps.getQuantity())
-                        .build())
-                .collect(Collectors.toList());
+        List<PlayerStockDto> stocks = playerStockRepository.findDtoByPlayerId(playerId);
+        for (PlayerStockDto stock : stocks) {
+            stock.setStockPrice(priceSimulator.price(stock.getStockId(), stock.getStockPrice()));
+        }
 
         PlayerStockListDto dto = PlayerStockListDto.builder()
-                .playerId(player.getPlayerId())
-                .playerMoney(player.getPlayerMoney())
+                .playerId(playerId)
+                .playerMoney(playerMoney)
                 .stocks(stocks)
                 .build();
 
@@ -104,12 +147,18 @@ public class PlayerService {
         if (playerSession == null || isBlank(playerSession.getPlayerId()) || isBlank(playerSession.getPlayerPassword())) {
             throw new ParameterException("playerId", "playerPassword");
         }
+        // 저널 레코드에 고정 길이로 기록되므로 UTF-8 100 바이트까지
+        if (!JournalRecord.isValidId(playerSession.getPlayerId())) {
+            throw new ParameterException("playerId");
+        }
 
         if (playerRepository.existsById(playerSession.getPlayerId())) {
             throw new ResponseException(Error.DATA_DUPLICATED);
         }
 
         Player saved = playerRepository.save(playerSession);
+        tradeJournal.append(JournalRecord.balance(saved.getPlayerId(), saved.getPlayerMoney()));
+        leaderboard.onBalance(saved.getPlayerId(), saved.getPlayerMoney());
         return ok(saved);
     }
 
@@ -134,6 +183,14 @@ public class PlayerService {
         return ok(stored);
     }
 
+    // =========================
+    // 4-1) 플레이어 로그아웃 (토큰 폐기, 만료 전이라도 다시 쓸 수 없음)
+    // =========================
+    public Response logoutPlayer() {
+        sessionHandler.clearAccessToken();
+        return ok(true);
+    }
+
     // =========================
     // 5) 플레이어 정보 업데이트
     // =========================
@@ -146,7 +203,7 @@ public class PlayerService {
                 .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND));
 
         // 실습 설명: playerId와 playerMoney 업데이트 중심
-        if (player.getPlayerMoney() != null) {
+        if (player.hasPlayerMoney()) {
             target.setPlayerMoney(player.getPlayerMoney());
         }
         // 비번 변경을 허용할지 여부는 과제 정책에 따라(원하면 열어둠)
@@ -155,6 +212,10 @@ public class PlayerService {
         }
 
         Player saved = playerRepository.save(target);
+        if (player.hasPlayerMoney()) {
+            tradeJournal.append(JournalRecord.balance(saved.getPlayerId(), saved.getPlayerMoney()));
+            leaderboard.onBalance(saved.getPlayerId(), saved.getPlayerMoney());
+        }
         return ok(saved);
     }
 
@@ -170,109 +231,130 @@ public class PlayerService {
                 .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND));
 
         playerRepository.delete(target);
+        // 남은 대기 주문은 체결될 수 없으므로 호가창에서 바로 제거
+        orderService.cancelAll(target.getPlayerId());
+        tradeJournal.append(JournalRecord.remove(target.getPlayerId()));
+        leaderboard.onRemove(target.getPlayerId());
         return ok(true);
     }
 
 // =========================
-// 7) 주식 매수
+// 7) 주식 매수 (Idempotency-Key 가 있으면 같은 키 재요청은 캐시된 응답 반환)
 // =========================
-@Transactional
-public Response buyPlayerStock(StockOrder order) {
-
-    // 로그인 세션에서 playerId 가져오기
-    String playerId = sessionHandler.getPlayerId();
-    if (isBlank(playerId)) {
-        throw new ResponseException(Error.SESSION_NOT_FOUND);
-    }
-
-    // 입력값 검증 (Wrapper 타입: null 체크 필수)
-    if (order == null
-            || order.getStockId() == null || order.getStockId() <= 0
-            || order.getStockQuantity() == null || order.getStockQuantity() <= 0) {
-        throw new ParameterException("stockId", "stockQuantity");
-    }
-
-    Player player = playerRepository.findById(playerId)
-            .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "Player not found"));
+public Response buyPlayerStock(StockOrder order, String idempotencyKey) {
+    return submitOrder(OrderSide.BUY, order, idempotencyKey);
+}
 
-    Stock stock = stockRepository.findById(order.getStockId())
-            .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "Stock not found"));
+// =========================
+// 8) 주식 매도
+// =========================
+public Response sellPlayerStock(StockOrder order, String idempotencyKey) {
+    return submitOrder(OrderSide.SELL, order, idempotencyKey);
+}
 
-    // 총 매수금액 계산
-    double cost = stock.getStockPrice() * order.getStockQuantity();
+// =========================
+// 9) 대기 주문 취소
+// =========================
+public Response cancelOrder(Long orderId) {
+    OrderResult cancelled = orderService.cancelOrder(currentPlayerId(), orderId);
+    asyncOrderExecutor.markCancelled(cancelled);
+    return ok(cancelled);
+}
 
-    // 잔액 검증
-    if (player.getPlayerMoney() == null || player.getPlayerMoney() < cost) {
-        throw new ResponseException(Error.INSUFFICIENT_FUNDS);
+// =========================
+// 10) 배치 주문
+// =========================
+public Response placeOrderBatch(OrderBatch batch, String idempotencyKey) {
+    String playerId = currentPlayerId();
+    if (batch == null || batch.getOrders() == null || batch.getOrders().isEmpty()) {
+        throw new ParameterException("orders");
     }
+    String scope = "BATCH:" + playerId;
+    return idempotencyCache.execute(scope, idempotencyKey, batch, () -> {
+        if (orderSequencer.isEnabled()) {
+            // timeout 으로 ACCEPTED 응답한 주문이 있어도 같은 키 재요청은 커밋 후 최종 결과를 받음
+            List<OrderTask> tasks = orderSequencer.submitAll(playerId, batch.getOrders());
+            idempotencyCache.completeWith(scope, idempotencyKey, orderSequencer.outcome(tasks).thenApply(this::ok));
+            return ok(orderSequencer.awaitAll(tasks));
+        }
+        return ok(orderService.placeBatch(playerId, batch.getOrders()));
+    });
+}
 
-    // 보유 주식 있으면 수량 증가, 없으면 새로 생성
-    PlayerStock ps = playerStockRepository.findByPlayerAndStock(player, stock)
-            .orElseGet(() -> new PlayerStock(player, stock, 0));
-
-    int currentQty = (ps.getQuantity() == null) ? 0 : ps.getQuantity();
-    ps.setQuantity(currentQty + order.getStockQuantity());
-
-    // 돈 차감
-    player.setPlayerMoney(player.getPlayerMoney() - cost);
-
-    // 저장
-    playerRepository.save(player);
-    playerStockRepository.save(ps);
-
-    return ok(true);
+// =========================
+// 11) 비동기 주문 접수 (검증 + 주문번호 발급 후 바로 응답, 실행은 백그라운드)
+// =========================
+public Response acceptOrder(StockOrder order, String idempotencyKey) {
+    String playerId = currentPlayerId();
+    return idempotencyCache.execute("ASYNC:" + playerId, idempotencyKey, order,
+            () -> ok(asyncOrderExecutor.accept(playerId, order)));
 }
 
 // =========================
-// 8) 주식 매도
+// 12) 주문 상태 조회
 // =========================
-@Transactional
-public Response sellPlayerStock(StockOrder order) {
+public Response getOrder(Long orderId) {
+    return ok(asyncOrderExecutor.getOrder(currentPlayerId(), orderId));
+}
 
-    String playerId = sessionHandler.getPlayerId();
-    if (isBlank(playerId)) {
-        throw new ResponseException(Error.SESSION_NOT_FOUND);
+// =========================
+// 13) 순자산 순위표 (상위 top 명)
+// =========================
+public Response getLeaderboard(int top) {
+    if (top < 1 || top > MAX_LEADERBOARD) {
+        throw new ParameterException("top");
     }
+    return ok(leaderboard.top(top));
+}
 
-    // 입력값 검증 (Wrapper 타입: null 체크 필수)
-    if (order == null
-            || order.getStockId() == null || order.getStockId() <= 0
-            || order.getStockQuantity() == null || order.getStockQuantity() <= 0) {
-        throw new ParameterException("stockId", "stockQuantity");
+// =========================
+// 14) 플레이어 순위
+// =========================
+public Response getRanking(String playerId) {
+    PlayerRanking ranking = leaderboard.rank(playerId);
+    if (ranking == null) {
+        throw new ResponseException(Error.DATA_NOT_FOUND);
     }
+    return ok(ranking);
+}
 
-    Player player = playerRepository.findById(playerId)
-            .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "Player not found"));
-
-    Stock stock = stockRepository.findById(order.getStockId())
-            .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "Stock not found"));
-
-    PlayerStock ps = playerStockRepository.findByPlayerAndStock(player, stock)
-            .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND, "PlayerStock not found"));
-
-    int currentQty = (ps.getQuantity() == null) ? 0 : ps.getQuantity();
-    if (currentQty < order.getStockQuantity()) {
-        throw new ResponseException(Error.INSUFFICIENT_QUANTITY);
+// =========================
+// 15) 포트폴리오 (현금, 종목별 평가액, 총자산, 평가 손익)
+// =========================
+public Response getPortfolio(String playerId) {
+    PortfolioDto portfolio = leaderboard.portfolio(playerId);
+    if (portfolio == null) {
+        throw new ResponseException(Error.DATA_NOT_FOUND);
     }
+    return ok(portfolio);
+}
 
-    // 매도금액 계산 및 돈 증가
-    double gain = stock.getStockPrice() * order.getStockQuantity();
-    double currentMoney = (player.getPlayerMoney() == null) ? 0.0 : player.getPlayerMoney();
-    player.setPlayerMoney(currentMoney + gain);
+private Response submitOrder(OrderSide side, StockOrder order, String idempotencyKey) {
+    String playerId = currentPlayerId();
+    String scope = side + ":" + playerId;
+    return idempotencyCache.execute(scope, idempotencyKey, order, () -> {
+        if (orderSequencer.isEnabled()) {
+            return ok(placeSequenced(playerId, side, order, scope, idempotencyKey));
+        }
+        return ok(orderService.placeOrder(playerId, side, order));
+    });
+}
 
-    // 수량 감소
-    ps.setQuantity(currentQty - order.getStockQuantity());
+// 시퀀서 모드: 플레이어 전용 lane 에서 처리
+// timeout 으로 ACCEPTED 응답하더라도 같은 키 재요청은 커밋 후 최종 결과를 받음
+private OrderResult placeSequenced(String playerId, OrderSide side, StockOrder order, String scope,
+        String idempotencyKey) {
+    OrderTask task = orderSequencer.submit(playerId, side, order);
+    idempotencyCache.completeWith(scope, idempotencyKey, orderSequencer.outcome(task));
+    return orderSequencer.await(task);
+}
 
-    // 수량 0이면 삭제(선택), 아니면 저장
-    if (ps.getQuantity() == 0) {
-        playerStockRepository.delete(ps);
-    } else {
-        playerStockRepository.save(ps);
+// 로그인 세션에서 playerId 가져오기
+private String currentPlayerId() {
+    String playerId = sessionHandler.getPlayerId();
+    if (isBlank(playerId)) {
+        throw new ResponseException(Error.SESSION_NOT_FOUND);
     }
-
-    // 플레이어 잔액 저장
-    playerRepository.save(player);
-
-    return ok(true);
+    return playerId;
+}
 }
-} 
\ No newline at end of file
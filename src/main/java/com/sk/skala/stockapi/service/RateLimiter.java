@@ -0,0 +1,100 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.exception.RateLimitException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 API 요청 수 제한 (플레이어별 + IP 별 토큰 버킷).
+ * - player-rate/ip-rate 는 초당 허용 건수, burst 는 한 번에 몰아서 허용하는 건수 (0 이면 해당 기준 제한 없음)
+ * - 초과하면 RATE_LIMITED + 다음 토큰까지 남은 시간 (거절된 요청은 어느 버킷의 토큰도 쓰지 않음)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final ApplicationProperties applicationProperties;
+
+    private TokenBuckets players;
+    private TokenBuckets addresses;
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        ApplicationProperties.RateLimit config = applicationProperties.getRateLimit();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        long base = now();
+        if (config.getPlayerRate() > 0) {
+            players = new TokenBuckets(config.getPlayerRate(), config.getPlayerBurst(), config.getShards(), base);
+        }
+        if (config.getIpRate() > 0) {
+            addresses = new TokenBuckets(config.getIpRate(), config.getIpBurst(), config.getShards(), base);
+        }
+
+        long idle = config.getIdleTimeout();
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> evictIdle(idle), idle, idle, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    // 요청 1 건 (playerId/address 가 null 이면 해당 기준은 건너뜀), 초과면 RateLimitException
+    public void acquire(String playerId, String address) {
+        long now = now();
+        long wait = 0;
+        if (addresses != null && address != null) {
+            wait = addresses.acquire(address, now);
+        }
+        if (wait == 0 && players != null && playerId != null) {
+            wait = players.acquire(playerId, now);
+            // 플레이어 기준으로 거절되면 먼저 쓴 IP 토큰은 돌려줌 (거절된 요청이 같은 IP 의 다른 플레이어 몫을 쓰지 않게)
+            if (wait > 0 && addresses != null && address != null) {
+                addresses.release(address);
+            }
+        }
+        if (wait > 0) {
+            throw new RateLimitException(wait);
+        }
+    }
+
+    void evictIdle(long idleMillis) {
+        try {
+            long now = now();
+            int evicted = (players != null ? players.evictIdle(now, idleMillis) : 0)
+                    + (addresses != null ? addresses.evictIdle(now, idleMillis) : 0);
+            if (evicted > 0) {
+                log.debug("RateLimiter evicted idle buckets: {}", evicted);
+            }
+        } catch (RuntimeException e) {
+            log.error("RateLimiter.evictIdle: {}", e.getMessage());
+        }
+    }
+
+    // 단조 증가 시각 (ms), 시스템 시계 변경 영향 없음
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+}
@@ -0,0 +1,318 @@
+package com.sk.skala.stockapi.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.CandleList;
+import com.sk.skala.stockapi.data.dto.RiskReport;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.market.CandleInterval;
+import com.sk.skala.stockapi.market.CandleStore;
+import com.sk.skala.stockapi.market.MonteCarloVar;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보유 주식 몬테카를로 VaR / Expected Shortfall.
+ * - 종목별 변동성/상관계수는 캔들 종가의 로그 수익률로 추정 (봉이 없는 구간은 직전 종가 유지)
+ * - 가격 변화 이력이 없는 종목은 시뮬레이터 설정 변동성(시간 단위)을 쓰고 다른 종목과 상관 0
+ * - 야간 배치: batch-time 에 전 플레이어를 계산해 두고 /risk/batch 로 조회
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RiskService {
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+    private static final double HOUR_MILLIS = 60 * 60 * 1000.0;
+
+    private final ApplicationProperties applicationProperties;
+    private final PlayerRepository playerRepository;
+    private final PlayerStockRepository playerStockRepository;
+    private final StockCache stockCache;
+    private final PriceSimulator priceSimulator;
+    private final CandleStore candleStore;
+
+    private volatile Map<String, RiskReport> batchReports = new ConcurrentHashMap<>();
+
+    private ForkJoinPool pool;
+    private MonteCarloVar engine;
+    private ScheduledExecutorService scheduler;
+
+    // ===== 공통 성공 응답 =====
+    private Response ok(Object body) {
+        Response response = new Response();
+        response.setResult(Response.SUCCESS);
+        response.setBody(body);
+        return response;
+    }
+
+    @PostConstruct
+    public void start() {
+        ApplicationProperties.Risk config = applicationProperties.getRisk();
+        pool = config.getParallelism() > 0 ? new ForkJoinPool(config.getParallelism()) : ForkJoinPool.commonPool();
+        engine = new MonteCarloVar(pool);
+
+        if (config.isBatchEnabled()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "risk-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime next = now.toLocalDate().atTime(LocalTime.parse(config.getBatchTime()));
+            if (!next.isAfter(now)) {
+                next = next.plusDays(1);
+            }
+            scheduler.scheduleAtFixedRate(this::runBatchSafely, Duration.between(now, next).toMillis(), DAY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdownNow();
+        }
+    }
+
+    // =========================
+    // 1) 플레이어 VaR (요청 시 계산)
+    // =========================
+    public Response getRisk(String playerId) {
+        if (playerId == null || playerId.isBlank()) {
+            throw new ParameterException("playerId");
+        }
+        if (!playerRepository.existsById(playerId)) {
+            throw new ResponseException(Error.DATA_NOT_FOUND);
+        }
+
+        Map<Long, Integer> holdings = new LinkedHashMap<>();
+        for (PlayerStock ps : playerStockRepository.findByPlayer_PlayerId(playerId)) {
+            if (ps.getQuantity() != null && ps.getQuantity() > 0) {
+                holdings.put(ps.getStock().getId(), ps.getQuantity());
+            }
+        }
+        ReturnHistory history = new ReturnHistory();
+        return ok(compute(playerId, holdings, history, applicationProperties.getRisk().getPaths(),
+                ThreadLocalRandom.current().nextLong()));
+    }
+
+    // =========================
+    // 2) 마지막 야간 배치 결과
+    // =========================
+    public Response getBatchRisk(String playerId) {
+        RiskReport report = batchReports.get(playerId);
+        if (report == null) {
+            throw new ResponseException(Error.DATA_NOT_FOUND);
+        }
+        return ok(report);
+    }
+
+    // 전 플레이어 일괄 계산 (보유 내역 쿼리 1 번, 종목별 수익률은 한 번만 계산), 계산한 플레이어 수 반환
+    public int runBatch() {
+        long started = System.currentTimeMillis();
+        Map<String, Map<Long, Integer>> positions = new HashMap<>();
+        for (Object[] row : playerStockRepository.findAllPositions()) {
+            Integer quantity = (Integer) row[2];
+            if (quantity != null && quantity > 0) {
+                positions.computeIfAbsent((String) row[0], id -> new LinkedHashMap<>()).put((Long) row[1], quantity);
+            }
+        }
+
+        ReturnHistory history = new ReturnHistory();
+        int paths = applicationProperties.getRisk().getBatchPaths();
+        Map<String, RiskReport> reports = new ConcurrentHashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> entry : positions.entrySet()) {
+            reports.put(entry.getKey(), compute(entry.getKey(), entry.getValue(), history, paths, entry.getKey().hashCode()));
+        }
+        batchReports = reports;
+        log.info("Risk batch finished: players={}, elapsed={}ms", reports.size(), System.currentTimeMillis() - started);
+        return reports.size();
+    }
+
+    private void runBatchSafely() {
+        try {
+            runBatch();
+        } catch (RuntimeException e) {
+            log.error("RiskService.runBatch: {}", e.getMessage());
+        }
+    }
+
+    private RiskReport compute(String playerId, Map<Long, Integer> holdings, ReturnHistory history, int paths,
+            long seed) {
+        long started = System.currentTimeMillis();
+        ApplicationProperties.Risk config = applicationProperties.getRisk();
+
+        List<Long> stockIds = new ArrayList<>();
+        List<Double> valueList = new ArrayList<>();
+        long portfolioValue = 0;
+        for (Map.Entry<Long, Integer> holding : holdings.entrySet()) {
+            Stock stock = stockCache.get(holding.getKey());
+            if (stock == null) {
+                continue;
+            }
+            long value = MoneyTool.multiply(priceSimulator.price(stock.getId(), stock.getStockPrice()),
+                    holding.getValue());
+            stockIds.add(stock.getId());
+            valueList.add(MoneyTool.toDouble(value));
+            portfolioValue += value;
+        }
+
+        int k = stockIds.size();
+        double[] values = new double[k];
+        for (int i = 0; i < k; i++) {
+            values[i] = valueList.get(i);
+        }
+        MonteCarloVar.Result result = engine.simulate(values, history.covariance(stockIds), paths,
+                config.getConfidence(), seed);
+
+        RiskReport report = new RiskReport();
+        report.setPlayerId(playerId);
+        report.setConfidence(config.getConfidence());
+        report.setHorizonDays(config.getHorizonDays());
+        report.setPaths(k == 0 ? 0 : paths);
+        report.setHoldings(k);
+        report.setPortfolioValue(portfolioValue);
+        report.setValueAtRisk(Math.round(result.getValueAtRisk() * MoneyTool.SCALE));
+        report.setExpectedShortfall(Math.round(result.getExpectedShortfall() * MoneyTool.SCALE));
+        report.setComputedAt(System.currentTimeMillis());
+        report.setElapsedMillis(report.getComputedAt() - started);
+        return report;
+    }
+
+    // 요청/배치 한 번 동안 종목별 수익률을 재사용
+    private class ReturnHistory {
+        private final ApplicationProperties.Risk config = applicationProperties.getRisk();
+        private final CandleInterval interval = CandleInterval.of(config.getInterval()) != null
+                ? CandleInterval.of(config.getInterval())
+                : CandleInterval.M1;
+        private final long end = interval.bucket(System.currentTimeMillis());
+        // 구간 수익률을 기간(horizon-days) 기준으로 늘리는 배율
+        private final double scale = (double) config.getHorizonDays() * DAY_MILLIS / interval.getMillis();
+        // 평균을 뺀 수익률 (이력이 없으면 null)
+        private final Map<Long, double[]> returns = new HashMap<>();
+
+        // 기간 기준 공분산 (행 우선 k x k)
+        double[] covariance(List<Long> stockIds) {
+            int k = stockIds.size();
+            double[][] series = new double[k][];
+            for (int i = 0; i < k; i++) {
+                series[i] = returns.computeIfAbsent(stockIds.get(i), this::load);
+            }
+
+            double[] covariance = new double[k * k];
+            for (int i = 0; i < k; i++) {
+                if (series[i] == null) {
+                    double volatility = configuredVolatility(stockIds.get(i));
+                    covariance[i * k + i] = volatility * volatility * config.getHorizonDays() * DAY_MILLIS
+                            / HOUR_MILLIS;
+                    continue;
+                }
+                for (int j = 0; j <= i; j++) {
+                    if (series[j] == null) {
+                        continue;
+                    }
+                    double sum = 0;
+                    for (int t = 0; t < series[i].length; t++) {
+                        sum += series[i][t] * series[j][t];
+                    }
+                    double value = sum / (series[i].length - 1) * scale;
+                    covariance[i * k + j] = value;
+                    covariance[j * k + i] = value;
+                }
+            }
+            return covariance;
+        }
+
+        // 최근 history 개 구간의 로그 수익률 (가격 변화가 한 번도 없으면 null)
+        private double[] load(Long stockId) {
+            CandleList candles = candleStore.getCandles(stockId, interval, Integer.MAX_VALUE);
+            int history = Math.max(2, config.getHistory());
+            if (candles == null || candles.getCount() == 0) {
+                return null;
+            }
+
+            // 종가가 0 이하인 봉(가격 없음)은 건너뜀 (log(0) = -∞ 이면 공분산 전체가 NaN)
+            long[] time = candles.getTime();
+            long[] close = candles.getClose();
+            long last = 0;
+            for (int i = 0; i < candles.getCount() && last <= 0; i++) {
+                last = close[i];
+            }
+            if (last <= 0) {
+                return null;
+            }
+
+            long start = end - (long) history * interval.getMillis();
+            int c = 0;
+            double[] series = new double[history];
+            double previous = 0;
+            double mean = 0;
+            boolean moved = false;
+            for (int step = 0; step <= history; step++) {
+                long t = start + step * interval.getMillis();
+                while (c < candles.getCount() && time[c] <= t) {
+                    if (close[c] > 0) {
+                        last = close[c];
+                    }
+                    c++;
+                }
+                double logPrice = Math.log(last);
+                if (step > 0) {
+                    series[step - 1] = logPrice - previous;
+                    moved |= series[step - 1] != 0;
+                    mean += series[step - 1];
+                }
+                previous = logPrice;
+            }
+            if (!moved) {
+                return null;
+            }
+            mean /= history;
+            for (int t = 0; t < history; t++) {
+                series[t] -= mean;
+            }
+            return series;
+        }
+
+        // 시뮬레이터 종목 설정 변동성 (시간 단위)
+        private double configuredVolatility(Long stockId) {
+            ApplicationProperties.Simulator simulator = applicationProperties.getSimulator();
+            Stock stock = stockCache.get(stockId);
+            ApplicationProperties.Simulator.Model model = stock == null ? null
+                    : simulator.getStocks().get(stock.getStockName());
+            return model != null && model.getVolatility() != null ? model.getVolatility() : simulator.getVolatility();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
+import com.sk.skala.stockapi.exception.ResponseException;
+
+/**
+ * 현재 스레드의 인증 결과 (SessionFilter 가 요청마다 한 번 설정).
+ * - 조회는 ThreadLocal 하나 (쿠키/RequestContextHolder 를 보지 않음)
+ * - wrap/propagating 으로 넘긴 작업은 제출한 스레드의 인증 결과를 그대로 가지고 실행
+ * - 인증 실패(잘못된/폐기된 토큰)는 세션이 필요한 곳에서 require() 할 때 그 예외로 드러남
+ */
+public final class SessionContext {
+
+    // 요청 속성 이름 (값은 PlayerIdentity)
+    public static final String ATTRIBUTE = PlayerIdentity.class.getName();
+
+    private static final ThreadLocal<Resolution> CURRENT = new ThreadLocal<>();
+
+    private SessionContext() {
+    }
+
+    // 현재 스레드에 인증 결과 설정 (identity 가 null 이면 비로그인, error 가 있으면 인증 실패)
+    // 반환된 Scope 를 닫으면 이전 값 복원
+    public static Scope open(PlayerIdentity identity, RuntimeException error) {
+        return open(new Resolution(identity, error));
+    }
+
+    private static Scope open(Resolution resolution) {
+        Resolution previous = CURRENT.get();
+        CURRENT.set(resolution);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    // 필터/전파로 인증 결과가 설정된 스레드인지
+    public static boolean isResolved() {
+        return CURRENT.get() != null;
+    }
+
+    // 로그인한 플레이어 (비로그인이면 SESSION_NOT_FOUND, 인증 실패면 그 예외)
+    public static PlayerIdentity require() {
+        Resolution resolution = CURRENT.get();
+        if (resolution == null || (resolution.identity == null && resolution.error == null)) {
+            throw new ResponseException(Error.SESSION_NOT_FOUND);
+        }
+        if (resolution.error != null) {
+            throw resolution.error;
+        }
+        return resolution.identity;
+    }
+
+    // 제출 시점의 인증 결과를 가지고 실행되는 작업
+    @SuppressWarnings("try")
+    public static Runnable wrap(Runnable task) {
+        Resolution captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = open(captured)) {
+                task.run();
+            }
+        };
+    }
+
+    @SuppressWarnings("try")
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Resolution captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = open(captured)) {
+                return task.call();
+            }
+        };
+    }
+
+    // 제출하는 작업마다 wrap 하는 Executor
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static class Resolution {
+        private final PlayerIdentity identity;
+        private final RuntimeException error;
+
+        Resolution(PlayerIdentity identity, RuntimeException error) {
+            this.identity = identity;
+            this.error = error;
+        }
+    }
+}
@@ -7,35 +7,58 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.sk.skala.stockapi.config.Constant;
 import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
 import com.sk.skala.stockapi.data.dto.PlayerSession;
 import com.sk.skala.stockapi.exception.ResponseException;
-import com.sk.skala.stockapi.tools.JsonTool;
 import com.sk.skala.stockapi.tools.JwtTool;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class SessionHandler {
 
+	private final TokenCache tokenCache;
+
 	public PlayerSession getPlayerSession() {
+		PlayerSession playerSession = new PlayerSession();
+		playerSession.setPlayerId(getPlayerIdentity().getPlayerId());
+		return playerSession;
+	}
+
+	public String getPlayerId() {
+		return getPlayerIdentity().getPlayerId();
+	}
+
+	// 로그인한 플레이어 (SessionFilter 가 설정한 값, 없으면 SESSION_NOT_FOUND)
+	public PlayerIdentity getPlayerIdentity() {
+		if (SessionContext.isResolved()) {
+			return SessionContext.require();
+		}
+
+		// 필터를 거치지 않은 스레드 (비동기 디스패치 등): 요청 속성, 없으면 쿠키 직접 검증
 		ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			throw new ResponseException(Error.SESSION_NOT_FOUND);
+		}
 		HttpServletRequest request = attributes.getRequest();
-		Cookie[] cookies = request.getCookies();
-		if (cookies != null) {
-			for (Cookie cookie : cookies) {
-				if (Constant.JWT_ACCESS_COOKIE.equals(cookie.getName())) {
-					String payload = JwtTool.getValidPayload(cookie.getValue());
-					return JsonTool.toObject(payload, PlayerSession.class);
-				}
-			}
+		Object resolved = request.getAttribute(SessionContext.ATTRIBUTE);
+		if (resolved instanceof PlayerIdentity) {
+			return (PlayerIdentity) resolved;
+		}
+		PlayerIdentity identity = authenticate(request);
+		if (identity == null) {
+			throw new ResponseException(Error.SESSION_NOT_FOUND);
 		}
-		throw new ResponseException(Error.SESSION_NOT_FOUND);
+		return identity;
 	}
 
-	public String getPlayerId() {
-		PlayerSession playerSession = getPlayerSession();
-		return playerSession != null ? playerSession.getPlayerId() : null;
+	// access 쿠키 검증 (쿠키가 없으면 null, 잘못된/폐기된 토큰이면 예외)
+	public PlayerIdentity authenticate(HttpServletRequest request) {
+		String token = getAccessToken(request);
+		return token != null ? tokenCache.get(token) : null;
 	}
 
 	public PlayerSession storeAccessToken(PlayerSession playerSession) {
@@ -54,4 +77,31 @@ public class SessionHandler {
 		return playerSession;
 	}
 
+	// 로그아웃: 토큰 폐기 + 쿠키 삭제
+	public void clearAccessToken() {
+		ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+		String token = getAccessToken(attr.getRequest());
+		if (token == null) {
+			throw new ResponseException(Error.SESSION_NOT_FOUND);
+		}
+		tokenCache.revoke(token);
+
+		Cookie cookie = new Cookie(Constant.JWT_ACCESS_COOKIE, "");
+		cookie.setMaxAge(0);
+		cookie.setPath("/");
+		cookie.setSecure(false);
+		attr.getResponse().addCookie(cookie);
+	}
+
+	private String getAccessToken(HttpServletRequest request) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies != null) {
+			for (Cookie cookie : cookies) {
+				if (Constant.JWT_ACCESS_COOKIE.equals(cookie.getName())) {
+					return cookie.getValue();
+				}
+			}
+		}
+		return null;
+	}
 }
\ No newline at end of file
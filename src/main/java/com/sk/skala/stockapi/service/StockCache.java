@@ -0,0 +1,180 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.StockRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종목 read-through 캐시.
+ * - 키 해시로 나눈 stripe 마다 접근 순서 LinkedHashMap (stripe 당 capacity/stripes 개, 넘치면 가장 오래 안 쓴 항목 제거)
+ * - 캐시 값은 복사본 (호출하는 쪽에서 수정하지 않음), 종목 등록/수정/삭제 시 해당 id 만 무효화
+ * - 무효화되면 stripe 세대가 바뀌므로, 무효화 전에 시작한 DB 조회 결과는 캐시에 넣지 않음
+ * - actuator 지표: stock.cache.hits / misses / evictions / size / hit.ratio, stock.cache.get / load (지연 시간)
+ */
+@Component
+@RequiredArgsConstructor
+public class StockCache {
+
+    private final StockRepository stockRepository;
+    private final ApplicationProperties applicationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private Stripe[] stripes;
+    private Timer getTimer;
+    private Timer loadTimer;
+
+    @PostConstruct
+    public void init() {
+        ApplicationProperties.StockCache config = applicationProperties.getStockCache();
+        stripes = new Stripe[Math.max(1, config.getStripes())];
+        int stripeCapacity = Math.max(1, config.getCapacity() / stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+
+        FunctionCounter.builder("stock.cache.hits", hits, LongAdder::doubleValue).register(meterRegistry);
+        FunctionCounter.builder("stock.cache.misses", misses, LongAdder::doubleValue).register(meterRegistry);
+        FunctionCounter.builder("stock.cache.evictions", evictions, LongAdder::doubleValue).register(meterRegistry);
+        Gauge.builder("stock.cache.size", this, StockCache::size).register(meterRegistry);
+        Gauge.builder("stock.cache.hit.ratio", this, StockCache::hitRatio).register(meterRegistry);
+        getTimer = Timer.builder("stock.cache.get").register(meterRegistry);
+        loadTimer = Timer.builder("stock.cache.load").register(meterRegistry);
+    }
+
+    // 없으면 null
+    public Stock get(Long stockId) {
+        long started = System.nanoTime();
+        try {
+            Stripe stripe = stripe(stockId);
+            Stock cached;
+            long generation;
+            synchronized (stripe) {
+                cached = stripe.entries.get(stockId);
+                generation = stripe.generation;
+            }
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+
+            misses.increment();
+            long loadStarted = System.nanoTime();
+            Stock loaded = stockRepository.findById(stockId).map(stock -> put(stock, generation)).orElse(null);
+            loadTimer.record(System.nanoTime() - loadStarted, TimeUnit.NANOSECONDS);
+            return loaded;
+        } finally {
+            getTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 여러 종목 조회 (캐시에 없는 것만 쿼리 한 번으로 적재), 없는 id 는 결과에서 빠짐
+    public Map<Long, Stock> getAll(Collection<Long> stockIds) {
+        Map<Long, Stock> found = new HashMap<>();
+        Map<Long, Long> missing = new HashMap<>();
+        for (Long stockId : stockIds) {
+            Stripe stripe = stripe(stockId);
+            synchronized (stripe) {
+                Stock cached = stripe.entries.get(stockId);
+                if (cached != null) {
+                    found.put(stockId, cached);
+                } else {
+                    missing.put(stockId, stripe.generation);
+                }
+            }
+        }
+        hits.add(found.size());
+        misses.add(missing.size());
+
+        if (!missing.isEmpty()) {
+            long loadStarted = System.nanoTime();
+            for (Stock stock : stockRepository.findAllById(missing.keySet())) {
+                found.put(stock.getId(), put(stock, missing.get(stock.getId())));
+            }
+            loadTimer.record(System.nanoTime() - loadStarted, TimeUnit.NANOSECONDS);
+        }
+        return found;
+    }
+
+    public void invalidate(Long stockId) {
+        if (stockId == null) {
+            return;
+        }
+        Stripe stripe = stripe(stockId);
+        synchronized (stripe) {
+            stripe.entries.remove(stockId);
+            stripe.generation++;
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    // 조회를 시작한 뒤 무효화가 없었을 때만 캐시에 넣음
+    private Stock put(Stock stock, long generation) {
+        Stock copy = new Stock(stock.getId(), stock.getStockName(), stock.getStockPrice());
+        Stripe stripe = stripe(stock.getId());
+        synchronized (stripe) {
+            if (stripe.generation == generation) {
+                stripe.entries.put(stock.getId(), copy);
+            }
+        }
+        return copy;
+    }
+
+    private Stripe stripe(Long stockId) {
+        return stripes[Math.floorMod(stockId.hashCode(), stripes.length)];
+    }
+
+    private class Stripe {
+        private final LinkedHashMap<Long, Stock> entries;
+        private long generation;
+
+        Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Stock> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.sk.skala.stockapi.service;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.sk.skala.stockapi.config.Error;
 import com.sk.skala.stockapi.data.common.PagedList;
@@ -13,7 +15,14 @@ import com.sk.skala.stockapi.data.common.Response;
 import com.sk.skala.stockapi.data.table.Stock;
 import com.sk.skala.stockapi.exception.ParameterException;
 import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.data.dto.CandleList;
+import com.sk.skala.stockapi.engine.MatchingEngine;
+import com.sk.skala.stockapi.market.CandleInterval;
+import com.sk.skala.stockapi.market.CandleStore;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.market.PriceStream;
 import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.StringTool;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,7 +30,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StockService {
 
+    // 커서 조회 한 페이지 최대 건수
+    private static final int MAX_LIMIT = 1000;
+
     private final StockRepository stockRepository;
+    private final PriceSimulator priceSimulator;
+    private final PriceStream priceStream;
+    private final CandleStore candleStore;
+    private final StockCache stockCache;
+    private final Leaderboard leaderboard;
+    private final MatchingEngine matchingEngine;
 
     private Response ok(Object body) {
         Response response = new Response();
@@ -38,25 +56,55 @@ public class StockService {
         PagedList pagedList = new PagedList();
         pagedList.setTotal(page.getTotalElements());
         pagedList.setCount(page.getNumberOfElements());
-        pagedList.setOffset(offset);
+        pagedList.setOffset(pageable.getOffset());
+        page.getContent().forEach(this::applyLivePrice);
         pagedList.setList(page.getContent());
 
         return ok(pagedList);
     }
 
-    // 개별 주식 상세 조회
+    // 전체 주식 목록 커서 조회 (id 순, after 가 없으면 처음부터)
+    public Response getStocksAfter(String after, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ParameterException("limit");
+        }
+        long afterId = 0;
+        if (after != null) {
+            try {
+                afterId = Long.parseLong(StringTool.decodeCursor(after));
+            } catch (IllegalArgumentException e) {
+                throw new ParameterException("after");
+            }
+        }
+
+        Slice<Stock> slice = stockRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit));
+        List<Stock> stocks = slice.getContent();
+        stocks.forEach(this::applyLivePrice);
+
+        PagedList pagedList = new PagedList();
+        pagedList.setTotal(-1);
+        pagedList.setCount(stocks.size());
+        pagedList.setList(stocks);
+        if (slice.hasNext()) {
+            pagedList.setNext(StringTool.encodeCursor(String.valueOf(stocks.get(stocks.size() - 1).getId())));
+        }
+        return ok(pagedList);
+    }
+
+    // 개별 주식 상세 조회 (캐시 우선)
     public Response getStockById(Long id) {
-        Optional<Stock> stockOpt = stockRepository.findById(id);
-        if (stockOpt.isEmpty()) {
+        Stock cached = stockCache.get(id);
+        if (cached == null) {
             throw new ResponseException(Error.DATA_NOT_FOUND);
         }
-        return ok(stockOpt.get());
+        return ok(new Stock(cached.getId(), cached.getStockName(),
+                priceSimulator.price(cached.getId(), cached.getStockPrice())));
     }
 
 // 주식 등록
 public Response createStock(Stock stock) {
     if (stock == null || isBlank(stock.getStockName())
-            || stock.getStockPrice() == null || stock.getStockPrice() <= 0) {
+            || stock.getStockPrice() <= 0) {
         throw new ParameterException("stockName", "stockPrice");
     }
 
@@ -66,13 +114,18 @@ public Response createStock(Stock stock) {
 
     // ✅ ID는 세팅하지 않습니다. (DB가 자동 생성)
     Stock saved = stockRepository.save(stock);
+    stockCache.invalidate(saved.getId());
+    priceSimulator.register(saved);
+    priceStream.publish(saved.getId(), saved.getStockPrice());
+    candleStore.onPrice(saved.getId(), saved.getStockPrice());
+    leaderboard.onPrice(saved.getId(), saved.getStockPrice());
 
     return ok(saved);
 }
     // 주식 수정
     public Response updateStock(Stock stock) {
         if (stock == null || stock.getId() == null || isBlank(stock.getStockName())
-                || stock.getStockPrice() == null || stock.getStockPrice() <= 0) {
+                || stock.getStockPrice() <= 0) {
             throw new ParameterException("stockName", "stockPrice");
         }
 
@@ -81,6 +134,11 @@ public Response createStock(Stock stock) {
         }
 
         Stock saved = stockRepository.save(stock);
+        stockCache.invalidate(saved.getId());
+        priceSimulator.register(saved);
+        priceStream.publish(saved.getId(), saved.getStockPrice());
+        candleStore.onPrice(saved.getId(), saved.getStockPrice());
+        leaderboard.onPrice(saved.getId(), saved.getStockPrice());
         return ok(saved);
     }
 
@@ -94,9 +152,42 @@ public Response createStock(Stock stock) {
                 .orElseThrow(() -> new ResponseException(Error.DATA_NOT_FOUND));
 
         stockRepository.delete(target);
+        stockCache.invalidate(target.getId());
+        priceSimulator.remove(target.getId());
+        candleStore.remove(target.getId());
+        leaderboard.onStockRemove(target.getId());
+        matchingEngine.remove(target.getId());
         return ok(true);
     }
 
+    // 캔들 조회 (최근 limit 개, 오래된 순)
+    public Response getCandles(Long id, String interval, int limit) {
+        CandleInterval candleInterval = CandleInterval.of(interval);
+        if (id == null || candleInterval == null || limit <= 0) {
+            throw new ParameterException("id", "interval", "limit");
+        }
+
+        CandleList candles = candleStore.getCandles(id, candleInterval, limit);
+        if (candles == null) {
+            if (!stockRepository.existsById(id)) {
+                throw new ResponseException(Error.DATA_NOT_FOUND);
+            }
+            candles = new CandleList(id, candleInterval.getLabel(), 0);
+        }
+        return ok(candles);
+    }
+
+    // 시세 스트림 구독 (stockIds 가 없으면 전 종목)
+    public SseEmitter streamPrices(List<Long> stockIds) {
+        return priceStream.subscribe(stockIds);
+    }
+
+    // 시뮬레이터 현재가 반영 (트랜잭션 밖에서 조회한 엔티티라 DB 에는 반영 안 됨)
+    private Stock applyLivePrice(Stock stock) {
+        stock.setStockPrice(priceSimulator.price(stock.getId(), stock.getStockPrice()));
+        return stock;
+    }
+
     private boolean isBlank(String s) {
         return s == null || s.trim().isEmpty();
     }
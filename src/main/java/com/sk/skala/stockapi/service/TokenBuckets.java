@@ -0,0 +1,129 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (잠금 없음).
+ * - 버킷 상태는 AtomicLong 하나: 상위 40 비트 = 마지막 갱신 시각(ms, base 기준), 하위 24 비트 = 남은 토큰(1/1000 단위)
+ * - rate 가 초당 토큰 수라서 ms 당 refill 이 정확히 rate milli-token (정수 연산만)
+ * - 거절된 요청은 상태를 바꾸지 않음 (CAS 는 허용할 때만)
+ * - 이미 있는 키의 허용/거절 경로는 객체 생성 없음
+ * - 가득 찬 채로 idle 만큼 안 쓴 버킷은 evictIdle 에서 제거 (DEAD 로 CAS 후 제거해서 떼어낸 버킷을 계속 쓰는 일 없음)
+ */
+class TokenBuckets {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long UNIT = 1000;
+    // 24 비트에 들어가는 최대 버스트
+    static final int MAX_BURST = (int) (TOKEN_MASK / UNIT);
+    private static final long DEAD = -1;
+
+    private final long rate;
+    private final long capacity;
+    private final long base;
+    private final ConcurrentHashMap<String, AtomicLong>[] shards;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    TokenBuckets(int rate, int burst, int shards, long base) {
+        this.rate = Math.max(1, rate);
+        this.capacity = Math.max(1, Math.min(burst, MAX_BURST)) * UNIT;
+        this.base = base;
+        this.shards = new ConcurrentHashMap[Math.max(1, shards)];
+        for (int i = 0; i < this.shards.length; i++) {
+            this.shards[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    // 토큰 1 개 사용 → 허용이면 0, 거절이면 다음 토큰까지 남은 ms
+    long acquire(String key, long nowMillis) {
+        long now = nowMillis - base;
+        ConcurrentHashMap<String, AtomicLong> shard = shard(key);
+        AtomicLong bucket = shard.get(key);
+        while (true) {
+            if (bucket == null) {
+                bucket = shard.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacity)));
+            }
+            long state = bucket.get();
+            if (state == DEAD) {
+                shard.remove(key, bucket);
+                bucket = null;
+                continue;
+            }
+
+            long tokens = refill(state, now);
+            if (tokens < UNIT) {
+                return (UNIT - tokens + rate - 1) / rate;
+            }
+            if (bucket.compareAndSet(state, pack(Math.max(now, state >>> TOKEN_BITS), tokens - UNIT))) {
+                return 0;
+            }
+        }
+    }
+
+    // acquire 로 쓴 토큰 1 개 되돌림 (다른 기준에서 거절된 요청), 제거된 버킷이면 무시
+    void release(String key) {
+        AtomicLong bucket = shard(key).get(key);
+        if (bucket == null) {
+            return;
+        }
+        while (true) {
+            long state = bucket.get();
+            if (state == DEAD) {
+                return;
+            }
+            long tokens = Math.min(capacity, (state & TOKEN_MASK) + UNIT);
+            if (bucket.compareAndSet(state, pack(state >>> TOKEN_BITS, tokens))) {
+                return;
+            }
+        }
+    }
+
+    // 마지막 사용 후 idle 이상 지나서 가득 찬 버킷 제거, 제거 건수 반환
+    int evictIdle(long nowMillis, long idleMillis) {
+        long now = nowMillis - base;
+        int evicted = 0;
+        for (ConcurrentHashMap<String, AtomicLong> shard : shards) {
+            Iterator<Map.Entry<String, AtomicLong>> it = shard.entrySet().iterator();
+            while (it.hasNext()) {
+                AtomicLong bucket = it.next().getValue();
+                long state = bucket.get();
+                if (state != DEAD && now - (state >>> TOKEN_BITS) >= idleMillis && refill(state, now) >= capacity
+                        && bucket.compareAndSet(state, DEAD)) {
+                    it.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private long refill(long state, long now) {
+        long elapsed = now - (state >>> TOKEN_BITS);
+        long tokens = state & TOKEN_MASK;
+        if (elapsed <= 0) {
+            return tokens;
+        }
+        // elapsed * rate 오버플로 방지 (한 번에 가득 차는 시간 이상이면 바로 capacity)
+        return elapsed >= capacity / rate ? capacity : Math.min(capacity, tokens + elapsed * rate);
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> shard(String key) {
+        return shards[Math.floorMod(key.hashCode(), shards.length)];
+    }
+
+    private static long pack(long time, long tokens) {
+        return (time << TOKEN_BITS) | tokens;
+    }
+}
@@ -0,0 +1,157 @@
+package com.sk.skala.stockapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
+import com.sk.skala.stockapi.data.dto.PlayerSession;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.tools.JsonTool;
+import com.sk.skala.stockapi.tools.JwtTool;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검증된 JWT → PlayerIdentity 캐시.
+ * - 키는 토큰의 SHA-256 digest (원문 토큰은 보관하지 않음)
+ * - 같은 토큰 재요청은 서명 검증/JSON 파싱 없이 반환, 항목은 토큰 만료 시각에 같이 만료
+ * - stripe 단위 잠금 + 접근 순서 LinkedHashMap (용량 초과 시 가장 오래 안 쓴 항목 제거)
+ * - 로그아웃한 토큰은 만료 시각까지 revoked 에 남겨서 다시 검증해도 거부
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final ApplicationProperties applicationProperties;
+
+    // digest → 토큰 만료 시각
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private Stripe[] stripes;
+    private int stripeCapacity;
+
+    @PostConstruct
+    public void init() {
+        ApplicationProperties.TokenCache config = applicationProperties.getTokenCache();
+        stripes = new Stripe[Math.max(1, config.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeCapacity = Math.max(1, config.getCapacity() / stripes.length);
+    }
+
+    // 검증된 플레이어 (캐시에 없으면 검증 후 저장, 서명/만료 오류는 JwtException 그대로)
+    public PlayerIdentity get(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        if (revoked.containsKey(digest)) {
+            throw new ResponseException(Error.NOT_AUTHENTICATED);
+        }
+
+        Stripe stripe = stripe(digest);
+        synchronized (stripe) {
+            PlayerIdentity cached = stripe.entries.get(digest);
+            if (cached != null) {
+                if (cached.getExpiresAt() > now) {
+                    return cached;
+                }
+                stripe.entries.remove(digest);
+            }
+        }
+
+        Claims claims = JwtTool.getValidClaims(token);
+        PlayerSession session = JsonTool.toObject(claims.getAudience(), PlayerSession.class);
+        if (session == null || session.getPlayerId() == null) {
+            return null;
+        }
+        PlayerIdentity identity = new PlayerIdentity(session.getPlayerId(), expiresAt(claims));
+        synchronized (stripe) {
+            // 검증 중에 로그아웃됐으면 저장하지 않음
+            if (!revoked.containsKey(digest)) {
+                stripe.entries.put(digest, identity);
+                stripe.evict(now, stripeCapacity);
+            }
+        }
+        return identity;
+    }
+
+    // 로그아웃: 캐시에서 제거하고 토큰 만료 시각까지 거부 (이미 무효한 토큰이면 아무것도 안 함)
+    public void revoke(String token) {
+        long expiresAt;
+        try {
+            expiresAt = expiresAt(JwtTool.getValidClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(time -> time <= now);
+        revoked.put(digest, expiresAt);
+        Stripe stripe = stripe(digest);
+        synchronized (stripe) {
+            stripe.entries.remove(digest);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String digest) {
+        return stripes[Math.floorMod(digest.hashCode(), stripes.length)];
+    }
+
+    private static long expiresAt(Claims claims) {
+        return claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA256.get();
+        return Base64.getEncoder().withoutPadding()
+                .encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static class Stripe {
+        private final LinkedHashMap<String, PlayerIdentity> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        // 만료된 것과 용량 초과분 제거 (가장 오래 안 쓴 것부터)
+        void evict(long now, int capacity) {
+            Iterator<Map.Entry<String, PlayerIdentity>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                PlayerIdentity identity = it.next().getValue();
+                if (identity.getExpiresAt() <= now || entries.size() > capacity) {
+                    it.remove();
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+}
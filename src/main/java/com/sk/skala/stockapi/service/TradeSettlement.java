@@ -0,0 +1,182 @@
+package com.sk.skala.stockapi.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.engine.FillHandler;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.engine.RestingOrder;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.journal.JournalRecord;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+/**
+ * 주문 한 건의 체결 결과를 조건부 UPDATE 로 바로 반영.
+ * - 잔액/수량 검증은 "WHERE 잔액 >= 금액" 의 영향받은 행 수로 판단 (엔티티 로딩, dirty checking 없음)
+ * - taker 는 매수/매도 모두 주문 시작 시 잔액(player) 행부터 잠그므로 같은 플레이어의 동시 주문은 DB 에서 직렬화됨
+ * - 플레이어 한 명의 행은 항상 잔액(player) → 보유 내역(player_stock) 순서로 잠금 (maker 쪽도 동일)
+ * - 서로 다른 플레이어 사이의 잠금 순서는 정하지 않음: 교착 상태/잠금 대기 초과는 DB 예외로 주문(트랜잭션)이 실패하고,
+ *   시퀀서 batch 는 주문별로 다시 처리함
+ * - 주문이 중간에 실패하면 rollback() 으로 이미 실행한 변경을 되돌림 (배치 트랜잭션 안에서도 주문 단위 원자성 유지)
+ * - 성공한 체결은 저널 레코드로 모아 둠 (커밋 후 TradeJournal/CandleStore 에 반영)
+ * - 보유 내역의 원가/실현 손익은 수량 변경과 같은 문장에서 갱신 (체결당 문장 수는 그대로)
+ */
+class TradeSettlement implements FillHandler {
+
+    private final PlayerRepository playerRepository;
+    private final PlayerStockRepository playerStockRepository;
+    private final Long stockId;
+    private final String takerId;
+    private final OrderSide side;
+
+    private final Deque<Runnable> undo = new ArrayDeque<>();
+    private final List<JournalRecord> trades = new ArrayList<>();
+
+    private int filledQuantity;
+    private long notional;
+    private boolean takerLocked;
+
+    TradeSettlement(PlayerRepository playerRepository, PlayerStockRepository playerStockRepository,
+            Long stockId, String takerId, OrderSide side) {
+        this.playerRepository = playerRepository;
+        this.playerStockRepository = playerStockRepository;
+        this.stockId = stockId;
+        this.takerId = takerId;
+        this.side = side;
+    }
+
+    // 호가창의 대기 주문과 체결
+    @Override
+    public boolean onFill(RestingOrder maker, long price, int quantity) {
+        long cost = MoneyTool.multiply(price, quantity);
+        String buyer = side == OrderSide.BUY ? takerId : maker.getPlayerId();
+        String seller = side == OrderSide.BUY ? maker.getPlayerId() : takerId;
+
+        // taker 쪽을 먼저 차감: 실패하면 주문 전체 실패
+        // maker 는 잔액 행을 먼저 변경한 뒤 보유 내역 행 변경 (실패하면 되돌림)
+        int mark = undo.size();
+        if (side == OrderSide.BUY) {
+            withdrawTaker(cost);
+            deposit(seller, cost);
+            if (!decrease(seller, quantity, cost)) {
+                rollbackTo(mark);
+                return false;
+            }
+        } else {
+            decreaseTaker(quantity, cost);
+            if (!withdraw(buyer, cost)) {
+                rollbackTo(mark);
+                return false;
+            }
+            deposit(seller, cost);
+        }
+        increase(buyer, quantity, cost);
+        trades.add(JournalRecord.trade(stockId, buyer, seller, price, quantity));
+
+        filledQuantity += quantity;
+        notional += cost;
+        return true;
+    }
+
+    // 호가창에서 채우지 못한 수량을 현재가로 체결 (기존 즉시 체결 방식)
+    void fillAtMarket(long price, int quantity) {
+        long cost = MoneyTool.multiply(price, quantity);
+        if (side == OrderSide.BUY) {
+            withdrawTaker(cost);
+            increase(takerId, quantity, cost);
+        } else {
+            decreaseTaker(quantity, cost);
+            deposit(takerId, cost);
+        }
+        trades.add(side == OrderSide.BUY
+                ? JournalRecord.trade(stockId, takerId, JournalRecord.HOUSE, price, quantity)
+                : JournalRecord.trade(stockId, JournalRecord.HOUSE, takerId, price, quantity));
+
+        filledQuantity += quantity;
+        notional += cost;
+    }
+
+    void rollback() {
+        rollbackTo(0);
+        trades.clear();
+    }
+
+    int getFilledQuantity() {
+        return filledQuantity;
+    }
+
+    long getNotional() {
+        return notional;
+    }
+
+    List<JournalRecord> getTrades() {
+        return trades;
+    }
+
+    private void withdrawTaker(long cost) {
+        if (!withdraw(takerId, cost)) {
+            rollback();
+            if (!playerRepository.existsById(takerId)) {
+                throw new ResponseException(Error.DATA_NOT_FOUND, "Player not found");
+            }
+            throw new ResponseException(Error.INSUFFICIENT_FUNDS);
+        }
+    }
+
+    // 매도 taker 는 보유 내역보다 잔액 행을 먼저 잠금 (매수 주문과 같은 순서)
+    private void decreaseTaker(int quantity, long amount) {
+        if (!takerLocked) {
+            playerRepository.lockById(takerId);
+            takerLocked = true;
+        }
+        if (!decrease(takerId, quantity, amount)) {
+            rollback();
+            if (playerStockRepository.findQuantity(takerId, stockId).isEmpty()) {
+                throw new ResponseException(Error.DATA_NOT_FOUND, "PlayerStock not found");
+            }
+            throw new ResponseException(Error.INSUFFICIENT_QUANTITY);
+        }
+    }
+
+    private boolean withdraw(String playerId, long cost) {
+        if (playerRepository.withdraw(playerId, cost) == 0) {
+            return false;
+        }
+        undo.push(() -> playerRepository.deposit(playerId, cost));
+        return true;
+    }
+
+    private void deposit(String playerId, long cost) {
+        playerRepository.deposit(playerId, cost);
+        undo.push(() -> playerRepository.withdraw(playerId, cost));
+    }
+
+    // 되돌릴 때는 변경 전 값으로 뺀 원가를 계산해 수량/원가/실현 손익을 그대로 복원
+    private boolean decrease(String playerId, int quantity, long amount) {
+        List<Object[]> before = playerStockRepository.sellQuantity(playerId, stockId, quantity, amount);
+        if (before.isEmpty()) {
+            return false;
+        }
+        long held = ((Number) before.get(0)[0]).longValue();
+        long cost = ((Number) before.get(0)[1]).longValue();
+        long soldCost = MoneyTool.share(cost, quantity, held);
+        undo.push(() -> playerStockRepository.addPosition(playerId, stockId, quantity, soldCost, soldCost - amount));
+        return true;
+    }
+
+    private void increase(String playerId, int quantity, long amount) {
+        playerStockRepository.addPosition(playerId, stockId, quantity, amount, 0);
+        undo.push(() -> playerStockRepository.addPosition(playerId, stockId, -quantity, -amount, 0));
+    }
+
+    private void rollbackTo(int mark) {
+        while (undo.size() > mark) {
+            undo.pop().run();
+        }
+    }
+}
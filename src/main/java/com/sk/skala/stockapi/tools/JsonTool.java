@@ -1,45 +1,87 @@
 package com.sk.skala.stockapi.tools;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * JSON 변환.
+ * - ObjectMapper 하나를 공유 (설정 후에는 불변, 스레드 간 공유 가능) → 직렬화기 캐시를 호출마다 다시 만들지 않음
+ * - 타입별 ObjectReader 는 처음 한 번 만들어 재사용
+ * - write/read 스트림 버전은 중간 String 없이 바로 쓰고 읽음 (스트림은 닫지 않음)
+ */
 @Slf4j
 public class JsonTool {
 
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+			.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+	private static final ObjectWriter WRITER = MAPPER.writer();
+	private static final ObjectReader TREE_READER = MAPPER.reader();
+	private static final ObjectReader MAP_READER = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {
+	});
+	private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
+
 	public static String toString(Object obj) {
 		try {
-			ObjectMapper om = new ObjectMapper();
-			return om.writeValueAsString(obj);
+			return WRITER.writeValueAsString(obj);
 		} catch (JsonProcessingException e) {
 			log.error("JsonTool.toString: {}", e.toString());
 			return new String();
 		}
 	}
 
+	public static byte[] toBytes(Object obj) {
+		try {
+			return WRITER.writeValueAsBytes(obj);
+		} catch (JsonProcessingException e) {
+			log.error("JsonTool.toBytes: {}", e.toString());
+			return new byte[0];
+		}
+	}
+
+	// UTF-8 로 바로 기록
+	public static void write(OutputStream out, Object obj) throws IOException {
+		WRITER.writeValue(out, obj);
+	}
+
+	public static void write(Writer writer, Object obj) throws IOException {
+		WRITER.writeValue(writer, obj);
+	}
+
 	public static <T> T toObject(String data, Class<T> c) {
 		try {
-			ObjectMapper om = new ObjectMapper();
-			return om.readValue(data, c);
+			return reader(c).readValue(data);
 		} catch (JsonProcessingException e) {
 			log.error("JsonTool.toObject: {}", e.toString());
 			return null;
 		}
 	}
 
+	public static <T> T read(InputStream in, Class<T> c) throws IOException {
+		return reader(c).readValue(in);
+	}
+
 	public static Map<String, Object> toMap(String data) {
 		try {
-			ObjectMapper om = new ObjectMapper();
-			return om.readValue(data, new TypeReference<Map<String, Object>>() {
-			});
+			return MAP_READER.readValue(data);
 		} catch (JsonProcessingException e) {
 			log.error("JsonTool.toMap: {}", e.toString());
 			return null;
@@ -48,8 +90,7 @@ public class JsonTool {
 
 	public static <T> List<T> toList(String data, Class<T> cls) {
 		try {
-			ObjectMapper om = new ObjectMapper();
-			return om.readValue(data, om.getTypeFactory().constructCollectionType(List.class, cls));
+			return listReader(cls).readValue(data);
 		} catch (JsonProcessingException e) {
 			log.error("JsonTool.toList: {}", e.toString());
 			return new ArrayList<T>();
@@ -58,15 +99,19 @@ public class JsonTool {
 
 	public static JsonNode toJsonNode(String data) {
 		try {
-			ObjectMapper om = new ObjectMapper();
-			return om.readTree(data);
-
-		} catch (JsonMappingException e) {
-			log.error("JsonTool.toJsonNode: {}", e.toString());
-
+			return TREE_READER.readTree(data);
 		} catch (JsonProcessingException e) {
 			log.error("JsonTool.toJsonNode: {}", e.toString());
 		}
 		return null;
 	}
+
+	private static ObjectReader reader(Class<?> c) {
+		return READERS.computeIfAbsent(c, MAPPER::readerFor);
+	}
+
+	private static ObjectReader listReader(Class<?> c) {
+		return LIST_READERS.computeIfAbsent(c,
+				k -> MAPPER.readerFor(MAPPER.getTypeFactory().constructCollectionType(List.class, k)));
+	}
 }
@@ -1,10 +1,12 @@
 package com.sk.skala.stockapi.tools;
 
+import java.security.Key;
 import java.util.Date;
 
 import com.sk.skala.stockapi.config.Constant;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -12,22 +14,30 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtTool {
 
+	// 서명 키와 파서는 한 번만 생성 (JwtParser 는 불변이라 스레드 간 공유 가능)
+	private static final Key KEY = Keys.hmacShaKeyFor(Constant.JWT_SECRET.getBytes());
+	private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(KEY).build();
+
 	public static String generateToken(String id, Object payload) {
 		long currentTimeMillis = System.currentTimeMillis();
 		log.debug("JwtTool.generateToken: {} {}", id, payload.toString());
 		return Jwts.builder().setIssuer(Constant.JWT_ISSUER).setId(id).setSubject(Constant.JWT_SUBJECT)
 				.setIssuedAt(new Date(currentTimeMillis))
 				.setExpiration(new Date(currentTimeMillis + Constant.JWT_TTL_MILLIS))
-				.setAudience(JsonTool.toString(payload)).signWith(Keys.hmacShaKeyFor(Constant.JWT_SECRET.getBytes()))
+				.setAudience(JsonTool.toString(payload)).signWith(KEY)
 				.compact();
 
 	}
 
-	public static String getValidPayload(String token) {
-		Claims claims = Jwts.parserBuilder().setSigningKey(Constant.JWT_SECRET.getBytes()).build().parseClaimsJws(token)
-				.getBody();
+	// 서명/만료 검증 후 claims (실패하면 JwtException)
+	public static Claims getValidClaims(String token) {
+		Claims claims = PARSER.parseClaimsJws(token).getBody();
 
-		log.debug("JwtTool.getValidPayload: {} {}", claims.getIssuer(), claims.getAudience());
-		return claims.getAudience();
+		log.debug("JwtTool.getValidClaims: {} {}", claims.getIssuer(), claims.getAudience());
+		return claims;
+	}
+
+	public static String getValidPayload(String token) {
+		return getValidClaims(token).getAudience();
 	}
 }
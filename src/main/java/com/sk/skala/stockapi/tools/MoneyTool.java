@@ -0,0 +1,127 @@
+package com.sk.skala.stockapi.tools;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * 금액/가격 고정소수점 처리 (1 = 0.000001, micro 단위 long).
+ * - 연산은 모두 primitive long 으로 처리해서 박싱/부동소수 오차 없음
+ * - JSON 은 기존 API 와 같은 10진수 숫자(예: 10000.0, 101.25)로 주고받음
+ */
+public class MoneyTool {
+
+	public static final int DECIMALS = 6;
+	public static final long SCALE = 1_000_000L;
+
+	private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[24]);
+
+	public static long of(long units) {
+		return Math.multiplyExact(units, SCALE);
+	}
+
+	public static long parse(String decimal) {
+		return of(new BigDecimal(decimal.trim()));
+	}
+
+	public static long of(BigDecimal decimal) {
+		return decimal.movePointRight(DECIMALS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+	}
+
+	// 단가 x 수량 (오버플로면 ArithmeticException)
+	public static long multiply(long price, long quantity) {
+		return Math.multiplyExact(price, quantity);
+	}
+
+	// amount x part / whole (0 방향 절사) - 곱셈 오버플로 없이 몫/나머지로 나눠 계산 (|part| <= whole)
+	// - PlayerStockRepository.sellQuantity 의 SQL 식과 같은 결과
+	public static long share(long amount, long part, long whole) {
+		return amount / whole * part + amount % whole * part / whole;
+	}
+
+	public static double toDouble(long micros) {
+		return (double) micros / SCALE;
+	}
+
+	public static String format(long micros) {
+		char[] buf = BUFFER.get();
+		return new String(buf, 0, format(micros, buf));
+	}
+
+	// buf 에 10진수 문자열을 쓰고 길이 반환 (소수부는 뒤쪽 0 제거, 최소 한 자리)
+	public static int format(long micros, char[] buf) {
+		long units = Math.abs(micros / SCALE);
+		long fraction = Math.abs(micros % SCALE);
+
+		int pos = 0;
+		if (micros < 0) {
+			buf[pos++] = '-';
+		}
+
+		int start = pos;
+		do {
+			buf[pos++] = (char) ('0' + units % 10);
+			units /= 10;
+		} while (units > 0);
+		for (int i = start, j = pos - 1; i < j; i++, j--) {
+			char c = buf[i];
+			buf[i] = buf[j];
+			buf[j] = c;
+		}
+
+		buf[pos++] = '.';
+		int digits = DECIMALS;
+		while (digits > 1 && fraction % 10 == 0) {
+			fraction /= 10;
+			digits--;
+		}
+		for (int i = digits - 1; i >= 0; i--) {
+			buf[pos + i] = (char) ('0' + fraction % 10);
+			fraction /= 10;
+		}
+		return pos + digits;
+	}
+
+	public static class Serializer extends JsonSerializer<Long> {
+		@Override
+		public void serialize(Long value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+			char[] buf = BUFFER.get();
+			gen.writeNumber(buf, 0, format(value, buf));
+		}
+	}
+
+	// 가격 배열 (캔들 등) → 10진수 숫자 배열
+	public static class ArraySerializer extends JsonSerializer<long[]> {
+		@Override
+		public void serialize(long[] values, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+			char[] buf = BUFFER.get();
+			gen.writeStartArray(values, values.length);
+			for (long value : values) {
+				gen.writeNumber(buf, 0, format(value, buf));
+			}
+			gen.writeEndArray();
+		}
+	}
+
+	public static class Deserializer extends JsonDeserializer<Long> {
+		@Override
+		public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+			JsonToken token = p.currentToken();
+			if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+				return of(p.getDecimalValue());
+			}
+			if (token == JsonToken.VALUE_STRING) {
+				return parse(p.getText());
+			}
+			return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.sk.skala.stockapi.tools;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.regex.Pattern;
 
 public class StringTool {
@@ -42,6 +44,16 @@ public class StringTool {
 		return dest;
 	}
 
+	// 페이지 커서 (정렬 키를 URL-safe Base64 로 감싼 불투명 문자열)
+	public static String encodeCursor(String key) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 형식이 틀리면 IllegalArgumentException
+	public static String decodeCursor(String cursor) {
+		return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+	}
+
 	public static String like(String string) {
 		return "%" + string + "%";
 	}
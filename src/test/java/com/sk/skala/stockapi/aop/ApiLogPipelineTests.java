@@ -0,0 +1,127 @@
+package com.sk.skala.stockapi.aop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.common.Response;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ApiLogPipelineTests {
+
+	// 발행한 로그는 모두 소비 스레드에서 기록
+	@Test
+	void writesPublishedEntries() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ApiLogPipeline pipeline = pipeline(registry, 64);
+		try {
+			for (int i = 0; i < 200; i++) {
+				Response response = new Response();
+				response.setBody(i);
+				assertTrue(pipeline.publish(i, "127.0.0.1", "GET", "/api/stocks", null, signature(), null, response,
+						null, 1) || pipeline.getDropped() > 0);
+			}
+			await(() -> registry.get("api.log.written").functionCounter().count() == 200 - pipeline.getDropped());
+			assertEquals(0, pipeline.pending());
+		} finally {
+			pipeline.stop();
+		}
+	}
+
+	// 소비 스레드가 막혀서 버퍼가 가득 차면 요청 스레드는 기다리지 않고 버림
+	@Test
+	void dropsWhenFull() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ApiLogPipeline pipeline = pipeline(registry, 4);
+		CountDownLatch serializing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			Response blocking = new Response();
+			blocking.setBody(new Object() {
+				@SuppressWarnings("unused")
+				public String getValue() throws InterruptedException {
+					serializing.countDown();
+					release.await();
+					return "done";
+				}
+			});
+			pipeline.publish(0, null, "GET", "/slow", null, signature(), null, blocking, null, 1);
+			assertTrue(serializing.await(5, TimeUnit.SECONDS));
+
+			int accepted = 0;
+			for (int i = 0; i < 10; i++) {
+				if (pipeline.publish(i, null, "GET", "/fast", null, signature(), null, null, null, 1)) {
+					accepted++;
+				}
+			}
+			// 직렬화 중인 slot 도 아직 차지하고 있으므로 남은 칸은 3
+			assertEquals(3, accepted);
+			assertEquals(7, pipeline.getDropped());
+			assertEquals(7.0, registry.get("api.log.dropped").functionCounter().count());
+			assertFalse(pipeline.publish(0, null, "GET", "/fast", null, signature(), null, null, null, 1));
+
+			release.countDown();
+			await(() -> registry.get("api.log.written").functionCounter().count() == 4.0);
+			assertEquals(0, pipeline.pending());
+		} finally {
+			release.countDown();
+			pipeline.stop();
+		}
+	}
+
+	private ApiLogPipeline pipeline(SimpleMeterRegistry registry, int bufferSize) {
+		ApplicationProperties properties = new ApplicationProperties();
+		properties.setName("TEST");
+		properties.getApiLog().setBufferSize(bufferSize);
+		properties.getApiLog().setIdleWait(1);
+		ApiLogPipeline pipeline = new ApiLogPipeline(properties, registry);
+		pipeline.start();
+		return pipeline;
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+
+	private static Signature signature() {
+		return new Signature() {
+			public String toShortString() {
+				return "getStocks";
+			}
+
+			public String toLongString() {
+				return "getStocks";
+			}
+
+			public String getName() {
+				return "getStocks";
+			}
+
+			public int getModifiers() {
+				return 0;
+			}
+
+			@SuppressWarnings("rawtypes")
+			public Class getDeclaringType() {
+				return Object.class;
+			}
+
+			public String getDeclaringTypeName() {
+				return "StockController";
+			}
+		};
+	}
+}
@@ -0,0 +1,42 @@
+package com.sk.skala.stockapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+class SchemaMigrationTests {
+
+	private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:migration;DB_CLOSE_DELAY=-1", "sa", ""));
+
+	// 전환 전 스키마(DOUBLE 금액 컬럼)의 값이 *_micros 로 옮겨지고 기존 컬럼은 삭제, 다시 실행해도 그대로
+	@Test
+	void convertsDoubleMoneyColumnsToMicros() {
+		jdbcTemplate.execute("CREATE TABLE player (player_id VARCHAR(255) PRIMARY KEY, player_password VARCHAR(255),"
+				+ " player_money DOUBLE)");
+		jdbcTemplate.execute("CREATE TABLE stock (id BIGINT AUTO_INCREMENT PRIMARY KEY, stock_name VARCHAR(255),"
+				+ " stock_price DOUBLE)");
+		jdbcTemplate.update("INSERT INTO player VALUES ('old', 'pw', 9876.54), ('empty', 'pw', NULL)");
+		jdbcTemplate.update("INSERT INTO stock (stock_name, stock_price) VALUES ('OLD', 123.456789)");
+
+		SchemaMigration.migrate(jdbcTemplate);
+		SchemaMigration.migrate(jdbcTemplate);
+
+		assertEquals(MoneyTool.parse("9876.54"), jdbcTemplate.queryForObject(
+				"SELECT player_money_micros FROM player WHERE player_id = 'old'", Long.class));
+		assertEquals(0L, jdbcTemplate.queryForObject(
+				"SELECT player_money_micros FROM player WHERE player_id = 'empty'", Long.class));
+		assertEquals(MoneyTool.parse("123.456789"), jdbcTemplate.queryForObject(
+				"SELECT stock_price_micros FROM stock WHERE stock_name = 'OLD'", Long.class));
+		assertThrows(BadSqlGrammarException.class,
+				() -> jdbcTemplate.queryForList("SELECT player_money FROM player"));
+		assertThrows(BadSqlGrammarException.class,
+				() -> jdbcTemplate.queryForList("SELECT stock_price FROM stock"));
+	}
+}
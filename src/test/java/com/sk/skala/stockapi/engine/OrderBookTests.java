@@ -0,0 +1,132 @@
+package com.sk.skala.stockapi.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class OrderBookTests {
+
+	private final OrderBook book = new OrderBook(1L, new HashMap<>());
+
+	@Test
+	void matchesByPriceThenTime() {
+		book.rest(1, "a", OrderSide.SELL, 10100, 5);
+		book.rest(2, "b", OrderSide.SELL, 10000, 5);
+		book.rest(3, "c", OrderSide.SELL, 10000, 5);
+
+		MatchResult result = book.plan(OrderSide.BUY, 10100, 12, (maker, price, qty) -> true);
+		book.commit(result);
+
+		assertEquals(12, result.getFilledQuantity());
+		assertEquals(2L, result.getFills().get(0).getMaker().getOrderId());
+		assertEquals(3L, result.getFills().get(1).getMaker().getOrderId());
+		assertEquals(1L, result.getFills().get(2).getMaker().getOrderId());
+		assertEquals(10000L * 10 + 10100L * 2, result.getNotional());
+		assertEquals(3, book.find(1).getRemaining());
+		assertNull(book.find(2));
+		assertEquals(1, book.depth(OrderSide.SELL));
+	}
+
+	@Test
+	void stopsAtLimitAndDropsUnfundedMakers() {
+		book.rest(1, "a", OrderSide.BUY, 9900, 5);
+		book.rest(2, "b", OrderSide.BUY, 9900, 5);
+		book.rest(3, "c", OrderSide.BUY, 9800, 5);
+
+		MatchResult result = book.plan(OrderSide.SELL, 9900, 10, (maker, price, qty) -> !"a".equals(maker.getPlayerId()));
+		book.commit(result);
+
+		assertEquals(5, result.getFilledQuantity());
+		assertNull(book.find(1));
+		assertNull(book.find(2));
+		assertEquals(5, book.find(3).getRemaining());
+	}
+
+	@Test
+	void planDoesNotChangeBookUntilCommit() {
+		book.rest(1, "a", OrderSide.SELL, 10000, 5);
+
+		book.plan(OrderSide.BUY, 10000, 5, (maker, price, qty) -> true);
+
+		assertEquals(5, book.find(1).getRemaining());
+		assertEquals(1, book.depth(OrderSide.SELL));
+	}
+
+	@Test
+	void cancelRemovesEmptyLevel() {
+		book.rest(1, "a", OrderSide.BUY, 9900, 5);
+
+		book.cancel(1);
+
+		assertNull(book.find(1));
+		assertEquals(0, book.depth(OrderSide.BUY));
+	}
+
+	@Test
+	void cancelAllEmptiesBothSidesAndRegistry() {
+		Map<Long, OrderBook> registry = new HashMap<>();
+		OrderBook removed = new OrderBook(2L, registry);
+		removed.rest(1, "a", OrderSide.BUY, 9900, 5);
+		removed.rest(2, "b", OrderSide.SELL, 10100, 5);
+
+		assertEquals(2, removed.cancelAll().size());
+
+		assertNull(removed.find(1));
+		assertEquals(0, removed.depth(OrderSide.BUY));
+		assertEquals(0, removed.depth(OrderSide.SELL));
+		assertTrue(registry.isEmpty());
+	}
+
+	@Test
+	void cancelAllForPlayerLeavesOtherOrders() {
+		book.rest(1, "a", OrderSide.BUY, 9900, 5);
+		book.rest(2, "b", OrderSide.BUY, 9900, 5);
+		book.rest(3, "a", OrderSide.SELL, 10100, 5);
+
+		assertEquals(2, book.cancelAll("a").size());
+
+		assertNull(book.find(1));
+		assertNull(book.find(3));
+		assertEquals(5, book.find(2).getRemaining());
+		assertEquals(0, book.depth(OrderSide.SELL));
+	}
+
+	@Test
+	void revertRestoresConsumedMakersInTimePriority() {
+		book.rest(1, "a", OrderSide.SELL, 10000, 5);
+		book.rest(2, "b", OrderSide.SELL, 10000, 5);
+		book.rest(3, "c", OrderSide.SELL, 10000, 5);
+
+		MatchResult result = book.plan(OrderSide.BUY, 10000, 12, (maker, price, qty) -> !"b".equals(maker.getPlayerId()));
+		book.commit(result);
+		book.rest(4, "d", OrderSide.SELL, 10000, 5);
+		book.revert(result);
+
+		assertEquals(5, book.find(1).getRemaining());
+		assertEquals(5, book.find(2).getRemaining());
+		assertEquals(5, book.find(3).getRemaining());
+		MatchResult replay = book.plan(OrderSide.BUY, 10000, 20, (maker, price, qty) -> true);
+		assertEquals(1L, replay.getFills().get(0).getMaker().getOrderId());
+		assertEquals(2L, replay.getFills().get(1).getMaker().getOrderId());
+		assertEquals(3L, replay.getFills().get(2).getMaker().getOrderId());
+		assertEquals(4L, replay.getFills().get(3).getMaker().getOrderId());
+	}
+
+	@Test
+	void revertSkipsMakersCancelledInBetween() {
+		book.rest(1, "a", OrderSide.SELL, 10000, 5);
+
+		MatchResult result = book.plan(OrderSide.BUY, 10000, 2, (maker, price, qty) -> true);
+		book.commit(result);
+		book.cancel(1);
+		book.revert(result);
+
+		assertNull(book.find(1));
+		assertEquals(0, book.depth(OrderSide.SELL));
+	}
+}
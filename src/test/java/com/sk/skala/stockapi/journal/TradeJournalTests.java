@@ -0,0 +1,96 @@
+package com.sk.skala.stockapi.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+class TradeJournalTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void appendsAcrossSegmentsAndResumesAfterReopen() throws Exception {
+		TradeJournal journal = open(1);
+		for (int i = 0; i < 10; i++) {
+			journal.append(JournalRecord.trade(1, "buyer", "seller", MoneyTool.of(10), i + 1));
+		}
+		journal.close();
+
+		// 세그먼트당 4건 → 3개 파일
+		try (Stream<Path> files = Files.list(dir)) {
+			assertEquals(3, files.filter(p -> p.toString().endsWith(".journal")).count());
+		}
+
+		journal = open(4);
+		journal.append(JournalRecord.balance("buyer", MoneyTool.of(5)));
+
+		List<JournalRecord> records = new ArrayList<>();
+		journal.replay(records::add);
+		journal.close();
+
+		assertEquals(11, records.size());
+		for (int i = 0; i < records.size(); i++) {
+			assertEquals(i + 1, records.get(i).getSeq());
+		}
+		assertEquals(10, records.get(9).getQuantity());
+		assertEquals("seller", records.get(9).getSeller());
+		assertEquals(JournalRecord.BALANCE, records.get(10).getType());
+	}
+
+	@Test
+	void secondOpenOnSameDirectoryIsDisabled() {
+		TradeJournal first = open(1);
+		TradeJournal second = open(1);
+		assertTrue(first.isEnabled());
+		assertFalse(second.isEnabled());
+		first.close();
+	}
+
+	@Test
+	void stateRebuildsBalancesAndHoldings() {
+		long price = MoneyTool.parse("10.5");
+		JournalState state = new JournalState();
+		state.apply(JournalRecord.balance("a", MoneyTool.of(1000)));
+		state.apply(JournalRecord.balance("b", MoneyTool.of(1000)));
+		state.apply(JournalRecord.trade(7, "a", JournalRecord.HOUSE, price, 10));
+		state.apply(JournalRecord.trade(7, "b", "a", price, 4));
+		state.apply(JournalRecord.trade(7, "ghost", "b", price, 1));
+
+		assertEquals(MoneyTool.of(1000) - MoneyTool.multiply(price, 6), state.getMoney().get("a"));
+		assertEquals(MoneyTool.of(1000) - MoneyTool.multiply(price, 3), state.getMoney().get("b"));
+		assertEquals(6, state.getHoldings("a").get(7L));
+		assertEquals(3, state.getHoldings("b").get(7L));
+		assertTrue(state.getSkipped().contains("ghost"));
+		// 같은 단가로 사고팔았으므로 실현 손익 0, 원가는 남은 수량만큼
+		assertEquals(MoneyTool.multiply(price, 6), state.getPositions("a").get(7L).cost);
+		assertEquals(0, state.getPositions("a").get(7L).realized);
+
+		state.apply(JournalRecord.remove("a"));
+		assertFalse(state.getMoney().containsKey("a"));
+	}
+
+	private TradeJournal open(int fsyncBatch) {
+		ApplicationProperties properties = new ApplicationProperties();
+		ApplicationProperties.Journal config = properties.getJournal();
+		config.setEnabled(true);
+		config.setDir(dir.toString());
+		config.setSegmentSize(4L * JournalRecord.SIZE);
+		config.setFsyncBatch(fsyncBatch);
+		TradeJournal journal = new TradeJournal(properties);
+		journal.open();
+		return journal;
+	}
+}
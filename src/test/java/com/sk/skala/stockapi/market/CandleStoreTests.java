@@ -0,0 +1,81 @@
+package com.sk.skala.stockapi.market;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.dto.CandleList;
+import com.sk.skala.stockapi.journal.JournalRecord;
+
+class CandleStoreTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void ringKeepsLatestBarsInOrder() {
+		CandleRing ring = new CandleRing(40);
+		for (int i = 0; i < 100; i++) {
+			ring.update(i * 1000L, 100 + i, 1);
+			ring.update(i * 1000L, 50 + i, 2);
+		}
+		assertEquals(40, ring.size());
+
+		long[] start = new long[5];
+		long[] open = new long[5];
+		long[] high = new long[5];
+		long[] low = new long[5];
+		long[] close = new long[5];
+		long[] volume = new long[5];
+		assertEquals(5, ring.copyLatest(5, start, open, high, low, close, volume));
+		assertArrayEquals(new long[] { 95000, 96000, 97000, 98000, 99000 }, start);
+		assertArrayEquals(new long[] { 195, 196, 197, 198, 199 }, open);
+		assertArrayEquals(new long[] { 145, 146, 147, 148, 149 }, close);
+		assertArrayEquals(new long[] { 3, 3, 3, 3, 3 }, volume);
+		assertEquals(199, high[4]);
+		assertEquals(149, low[4]);
+	}
+
+	@Test
+	void aggregatesTradesAndArchivesFinishedBars() throws Exception {
+		ApplicationProperties properties = new ApplicationProperties();
+		properties.getCandle().setCapacity(10);
+		properties.getCandle().setArchive(true);
+		properties.getCandle().setArchiveDir(dir.toString());
+		CandleStore store = new CandleStore(properties, new PriceSimulator(properties, null, null));
+		store.start();
+
+		assertNull(store.getCandles(1L, CandleInterval.M1, 10));
+		store.onTrades(List.of(JournalRecord.trade(1, "a", "b", 100, 5), JournalRecord.trade(1, "a", "b", 120, 1)));
+		store.onPrice(1, 90);
+
+		CandleList candles = store.getCandles(1L, CandleInterval.H1, 10);
+		assertEquals(1, candles.getCount());
+		assertEquals(100, candles.getOpen()[0]);
+		assertEquals(120, candles.getHigh()[0]);
+		assertEquals(90, candles.getLow()[0]);
+		assertEquals(90, candles.getClose()[0]);
+		assertEquals(6, candles.getVolume()[0]);
+
+		// 1 초가 지나 새 봉이 생기면 직전 1s 봉이 파일에 기록됨
+		Thread.sleep(1100);
+		store.onPrice(1, 95);
+		store.stop();
+
+		Path file;
+		try (var files = Files.list(dir)) {
+			file = files.filter(p -> p.getFileName().toString().startsWith("1s-")).findFirst().orElseThrow();
+		}
+		assertTrue(Files.size(file) >= CandleArchive.RECORD_SIZE);
+		assertEquals(0, Files.size(file) % CandleArchive.RECORD_SIZE);
+	}
+}
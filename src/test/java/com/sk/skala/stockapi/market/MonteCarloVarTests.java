@@ -0,0 +1,62 @@
+package com.sk.skala.stockapi.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class MonteCarloVarTests {
+
+	private final MonteCarloVar engine = new MonteCarloVar(ForkJoinPool.commonPool());
+
+	// 단일 종목: 로그 수익률 N(0, 0.02²) → 99% VaR = 1000 x (1 - e^(-2.326 x 0.02))
+	@Test
+	void matchesAnalyticSingleAsset() {
+		double sigma = 0.02;
+		MonteCarloVar.Result result = engine.simulate(new double[] { 1000 }, new double[] { sigma * sigma }, 200_000,
+				0.99, 7);
+
+		double expected = 1000 * -Math.expm1(-2.3263 * sigma);
+		assertEquals(expected, result.getValueAtRisk(), expected * 0.03);
+		assertTrue(result.getExpectedShortfall() > result.getValueAtRisk());
+	}
+
+	// 완전 상관인 두 종목은 합친 한 종목과 같은 분포, seed 가 같으면 스레드 분할과 무관하게 같은 결과
+	@Test
+	void correlatedAssetsAndDeterministicSeed() {
+		double v = 0.0004;
+		MonteCarloVar.Result pair = engine.simulate(new double[] { 500, 500 }, new double[] { v, v, v, v }, 100_000,
+				0.99, 11);
+		MonteCarloVar.Result single = engine.simulate(new double[] { 1000 }, new double[] { v }, 100_000, 0.99, 11);
+		assertEquals(single.getValueAtRisk(), pair.getValueAtRisk(), single.getValueAtRisk() * 0.03);
+
+		MonteCarloVar.Result again = new MonteCarloVar(new ForkJoinPool(3)).simulate(new double[] { 500, 500 },
+				new double[] { v, v, v, v }, 100_000, 0.99, 11);
+		assertEquals(pair.getValueAtRisk(), again.getValueAtRisk(), 0);
+		assertEquals(pair.getExpectedShortfall(), again.getExpectedShortfall(), 0);
+	}
+
+	// 50 종목 x 100k 경로를 1 초 안에 (JIT 준비용으로 한 번 먼저 실행)
+	@Test
+	void largePortfolio() {
+		int k = 50;
+		double[] values = new double[k];
+		double[] covariance = new double[k * k];
+		for (int i = 0; i < k; i++) {
+			values[i] = 100;
+			for (int j = 0; j < k; j++) {
+				covariance[i * k + j] = i == j ? 0.0004 : 0.0001;
+			}
+		}
+		engine.simulate(values, covariance, 10_000, 0.99, 2);
+
+		long started = System.nanoTime();
+		MonteCarloVar.Result result = engine.simulate(values, covariance, 100_000, 0.99, 1);
+		long elapsed = (System.nanoTime() - started) / 1_000_000;
+		assertTrue(result.getValueAtRisk() > 0);
+		assertTrue(result.getValueAtRisk() < 5000);
+		assertTrue(elapsed < 1000, "50 x 100k paths took " + elapsed + "ms");
+	}
+}
@@ -0,0 +1,96 @@
+package com.sk.skala.stockapi.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest(properties = {
+		"application.simulator.enabled=true",
+		"application.simulator.tick-interval=5",
+		"application.simulator.flush-interval=20",
+		"application.simulator.volatility=50" })
+class PriceSimulatorTests {
+
+	@Autowired
+	private PriceSimulator priceSimulator;
+	@Autowired
+	private StockRepository stockRepository;
+
+	@Test
+	void ticksInMemoryAndFlushesToDatabase() throws Exception {
+		long seed = MoneyTool.of(100);
+		Stock stock = stockRepository.save(new Stock("SIM", seed));
+		priceSimulator.register(stock);
+		assertTrue(priceSimulator.isEnabled());
+
+		long live = seed;
+		for (int i = 0; i < 200 && live == seed; i++) {
+			Thread.sleep(10);
+			live = priceSimulator.price(stock.getId(), 0);
+		}
+		assertNotEquals(seed, live);
+		assertTrue(live > 0);
+
+		// flush 이후에는 DB 가격도 시뮬레이터 값을 따라감
+		priceSimulator.stop();
+		long stopped = priceSimulator.price(stock.getId(), 0);
+		assertEquals(stopped, stockRepository.findById(stock.getId()).orElseThrow().getStockPrice());
+
+		// 등록되지 않은 종목은 DB 가격 그대로
+		assertEquals(seed, priceSimulator.price(-1L, seed));
+	}
+
+	// 느린 리스너가 틱 알림 중이어도 종목 등록/삭제는 registry 잠금을 기다리지 않음
+	@Test
+	void slowListenerDoesNotBlockRegistration() throws Exception {
+		Stock first = stockRepository.save(new Stock("SIM-SLOW", MoneyTool.of(100)));
+		priceSimulator.register(first);
+
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean blocking = new AtomicBoolean(true);
+		priceSimulator.addListener((stockId, price) -> {
+			if (blocking.get()) {
+				entered.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		// 다른 테스트가 스케줄러를 멈췄을 수 있으므로 틱은 직접 실행
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Future<?> tick = executor.submit(priceSimulator::tick);
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		try {
+			Stock second = stockRepository.save(new Stock("SIM-SLOW-2", MoneyTool.of(50)));
+			Future<?> registered = executor.submit(() -> {
+				priceSimulator.register(second);
+				priceSimulator.remove(second.getId());
+			});
+			registered.get(1, TimeUnit.SECONDS);
+		} finally {
+			blocking.set(false);
+			release.countDown();
+		}
+		tick.get(5, TimeUnit.SECONDS);
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,68 @@
+package com.sk.skala.stockapi.market;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"application.stream.interval=300" })
+class PriceStreamTests {
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private PriceStream priceStream;
+	@Autowired
+	private StockRepository stockRepository;
+
+	// 방송 주기 안에 여러 번 바뀐 가격은 마지막 값만 전달
+	@Test
+	void coalescesToLatestPricePerStock() throws Exception {
+		Stock stock = stockRepository.save(new Stock("STREAM", MoneyTool.of(100)));
+
+		URL url = new URL("http://localhost:" + port + "/api/stocks/stream?stockIds=" + stock.getId());
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		connection.setReadTimeout(5000);
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+			for (int i = 1; i <= 5; i++) {
+				priceStream.publish(stock.getId(), MoneyTool.of(100 + i));
+			}
+
+			List<String> data = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith("data:")) {
+					data.add(line);
+					if (line.contains("\"stockPrice\":105.0")) {
+						break;
+					}
+				}
+			}
+
+			assertTrue(data.get(data.size() - 1).contains("\"stockId\":" + stock.getId()));
+			for (int i = 1; i <= 4; i++) {
+				String skipped = "\"stockPrice\":" + (100 + i) + ".0";
+				assertFalse(data.stream().anyMatch(d -> d.contains(skipped)), skipped);
+			}
+		} finally {
+			connection.disconnect();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest
+class AsyncOrderExecutorTests {
+
+	@Autowired
+	private AsyncOrderExecutor asyncOrderExecutor;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+	@Autowired
+	private OrderService orderService;
+	@Autowired
+	private StockService stockService;
+
+	// 잔액 100 / 단가 10 → 20건 접수는 모두 ACCEPTED, 실행 후 10건 체결 + 10건 거절
+	@Test
+	void acceptsImmediatelyAndReportsOutcome() throws Exception {
+		Stock stock = stockRepository.save(new Stock("ASYNC", MoneyTool.of(10)));
+		playerRepository.save(new Player("async", MoneyTool.of(100)));
+
+		List<Long> orderIds = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			StockOrder order = new StockOrder();
+			order.setStockId(stock.getId());
+			order.setStockQuantity(1);
+			order.setSide(OrderSide.BUY);
+			OrderResult accepted = asyncOrderExecutor.accept("async", order);
+			assertEquals(1, accepted.getRemainingQuantity());
+			orderIds.add(accepted.getOrderId());
+		}
+
+		int filled = 0;
+		int rejected = 0;
+		for (Long orderId : orderIds) {
+			OrderResult result = await(orderId);
+			if (result.getStatus() == OrderResult.Status.FILLED) {
+				assertEquals(MoneyTool.of(10), result.getAveragePrice());
+				filled++;
+			} else {
+				assertEquals(OrderResult.Status.REJECTED, result.getStatus());
+				rejected++;
+			}
+		}
+		assertEquals(10, filled);
+		assertEquals(10, rejected);
+		assertEquals(0L, playerRepository.findMoneyById("async").orElseThrow());
+	}
+
+	// 즉시 체결분(10, 10, 11 → 평균 10.333333 절사)에 나중에 대기 주문 체결(11)이 더해져도 평균가는 정확한 체결 금액 기준
+	@Test
+	void averagesRestingFillsOverTheExactTakerNotional() throws Exception {
+		Stock stock = stockRepository.save(new Stock("ASYNC-AVG", MoneyTool.of(9)));
+		Player a = playerRepository.save(new Player("avg-a", 0));
+		Player b = playerRepository.save(new Player("avg-b", 0));
+		Player seller = playerRepository.save(new Player("avg-seller", 0));
+		playerStockRepository.save(new PlayerStock(a, stock, 2));
+		playerStockRepository.save(new PlayerStock(b, stock, 1));
+		playerStockRepository.save(new PlayerStock(seller, stock, 1));
+		playerRepository.save(new Player("async", MoneyTool.of(1000)));
+
+		orderService.placeOrder("avg-a", OrderSide.SELL, limit(stock, OrderSide.SELL, 2, MoneyTool.of(10)));
+		orderService.placeOrder("avg-b", OrderSide.SELL, limit(stock, OrderSide.SELL, 1, MoneyTool.of(11)));
+		setPrice(stock, MoneyTool.of(12));
+
+		OrderResult taker = await(asyncOrderExecutor.accept("async", limit(stock, OrderSide.BUY, 4, MoneyTool.of(11)))
+				.getOrderId());
+		assertEquals(OrderResult.Status.PARTIALLY_FILLED, taker.getStatus());
+		assertEquals(3, taker.getFilledQuantity());
+
+		setPrice(stock, MoneyTool.parse("10.5"));
+		StockOrder sell = new StockOrder();
+		sell.setStockId(stock.getId());
+		sell.setStockQuantity(1);
+		orderService.placeOrder("avg-seller", OrderSide.SELL, sell);
+
+		OrderResult filled = asyncOrderExecutor.getOrder("async", taker.getOrderId());
+		assertEquals(OrderResult.Status.FILLED, filled.getStatus());
+		assertEquals(MoneyTool.parse("10.5"), filled.getAveragePrice());
+	}
+
+	private StockOrder limit(Stock stock, OrderSide side, int quantity, long price) {
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setSide(side);
+		order.setStockQuantity(quantity);
+		order.setOrderType(StockOrder.OrderType.LIMIT);
+		order.setLimitPrice(price);
+		return order;
+	}
+
+	private void setPrice(Stock stock, long price) {
+		stock.setStockPrice(price);
+		stockService.updateStock(stock);
+	}
+
+	private OrderResult await(Long orderId) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			OrderResult result = asyncOrderExecutor.getOrder("async", orderId);
+			if (result.getStatus() != OrderResult.Status.ACCEPTED) {
+				return result;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("order " + orderId + " not executed");
+	}
+}
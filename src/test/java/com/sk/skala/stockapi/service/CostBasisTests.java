@@ -0,0 +1,118 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest
+class CostBasisTests {
+
+	@Autowired
+	private OrderService orderService;
+	@Autowired
+	private StockService stockService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+
+	// 10 x 10 + 10 x 20 매수 → 평균 15, 5 주를 30 에 매도 → 실현 손익 75
+	@Test
+	void averageCostAndRealizedPnl() {
+		Stock stock = (Stock) stockService.createStock(new Stock("COST-BASIS", MoneyTool.of(10))).getBody();
+		playerRepository.save(new Player("cost.player", MoneyTool.of(1000)));
+
+		order("cost.player", stock, OrderSide.BUY, 10);
+		price(stock, 20);
+		order("cost.player", stock, OrderSide.BUY, 10);
+		price(stock, 30);
+		order("cost.player", stock, OrderSide.SELL, 5);
+
+		PlayerStock position = position("cost.player", stock);
+		assertEquals(15, position.getQuantity());
+		assertEquals(MoneyTool.of(225), position.getCostBasis());
+		assertEquals(MoneyTool.of(75), position.getRealizedPnl());
+
+		// 전량 매도해도 실현 손익은 남음
+		order("cost.player", stock, OrderSide.SELL, 15);
+		position = position("cost.player", stock);
+		assertEquals(0, position.getQuantity());
+		assertEquals(0, position.getCostBasis());
+		assertEquals(MoneyTool.of(300), position.getRealizedPnl());
+	}
+
+	// 호가 체결이 매수자 잔액 부족으로 되돌려진 뒤 현재가로 체결 → 되돌린 원가/실현 손익이 정확해야 함
+	@Test
+	void rollbackRestoresCostBasis() {
+		Stock stock = (Stock) stockService.createStock(new Stock("COST-UNDO", MoneyTool.of(10))).getBody();
+		playerRepository.save(new Player("undo.seller", MoneyTool.of(1000)));
+		playerRepository.save(new Player("undo.buyer", MoneyTool.of(100)));
+		order("undo.seller", stock, OrderSide.BUY, 3);
+
+		StockOrder bid = new StockOrder();
+		bid.setStockId(stock.getId());
+		bid.setStockQuantity(3);
+		bid.setOrderType(StockOrder.OrderType.LIMIT);
+		bid.setLimitPrice(MoneyTool.of(8));
+		orderService.placeOrder("undo.buyer", OrderSide.BUY, bid);
+		playerRepository.save(new Player("undo.buyer", 0));
+		price(stock, 5);
+
+		order("undo.seller", stock, OrderSide.SELL, 3);
+
+		PlayerStock position = position("undo.seller", stock);
+		assertEquals(0, position.getQuantity());
+		assertEquals(0, position.getCostBasis());
+		assertEquals(MoneyTool.of(-15), position.getRealizedPnl());
+		assertEquals(MoneyTool.of(985), playerRepository.findMoneyById("undo.seller").orElseThrow());
+	}
+
+	// 원가 x 매도 수량이 BIGINT 범위를 넘는 보유분도 매도 가능 (원가는 수량 비율만큼 정확히 차감)
+	@Test
+	void sellsLargePositionWithoutOverflow() {
+		Stock stock = (Stock) stockService.createStock(new Stock("COST-LARGE", MoneyTool.of(1_000_000))).getBody();
+		Player player = playerRepository.save(new Player("large.player", 0));
+		long cost = MoneyTool.of(1_000_000_000_000L);
+		PlayerStock held = new PlayerStock(player, stock, 1_000_000);
+		held.setCostBasis(cost);
+		playerStockRepository.save(held);
+
+		order("large.player", stock, OrderSide.SELL, 100);
+
+		PlayerStock position = position("large.player", stock);
+		assertEquals(999_900, position.getQuantity());
+		assertEquals(cost - MoneyTool.of(100_000_000), position.getCostBasis());
+		assertEquals(0, position.getRealizedPnl());
+		assertEquals(MoneyTool.of(100_000_000), playerRepository.findMoneyById("large.player").orElseThrow());
+	}
+
+	private void order(String playerId, Stock stock, OrderSide side, int quantity) {
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setStockQuantity(quantity);
+		orderService.placeOrder(playerId, side, order);
+	}
+
+	private void price(Stock stock, long units) {
+		stock.setStockPrice(MoneyTool.of(units));
+		stockService.updateStock(stock);
+	}
+
+	private PlayerStock position(String playerId, Stock stock) {
+		return playerStockRepository.findByPlayer_PlayerId(playerId).stream()
+				.filter(ps -> ps.getStock().getId().equals(stock.getId()))
+				.findFirst()
+				.orElseThrow();
+	}
+}
@@ -0,0 +1,85 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest
+class ExportServiceTests {
+
+	@Autowired
+	private ExportService exportService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// 한 줄에 플레이어 하나, playerId 순, 금액은 10진수 숫자
+	@Test
+	void exportsPlayersAsNdjson() throws Exception {
+		playerRepository.save(new Player("export.b", MoneyTool.parse("12.5")));
+		playerRepository.save(new Player("export.a", MoneyTool.of(100)));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		exportService.exportPlayers("ndjson", false, response);
+
+		assertTrue(response.getContentType().startsWith("application/x-ndjson"));
+		List<String> lines = response.getContentAsString().lines()
+				.filter(line -> line.contains("\"export."))
+				.toList();
+		assertEquals(2, lines.size());
+		JsonNode first = objectMapper.readTree(lines.get(0));
+		assertEquals("export.a", first.get("playerId").asText());
+		assertEquals(100.0, first.get("playerMoney").asDouble());
+		assertEquals(12.5, objectMapper.readTree(lines.get(1)).get("playerMoney").asDouble());
+		assertTrue(response.getContentAsString().endsWith("\n"));
+	}
+
+	// 헤더 + 종목당 한 줄, 쉼표/따옴표가 든 이름은 따옴표로 감쌈
+	@Test
+	void exportsStocksAndHoldingsAsCsv() throws Exception {
+		Stock stock = stockRepository.save(new Stock(null, "Export, \"Quoted\"", MoneyTool.of(7)));
+		playerRepository.save(new Player("export.holder", 0));
+		jdbcTemplate.update("insert into player_stock (player_id, stock_id, quantity, cost_basis_micros,"
+				+ " realized_pnl_micros) values (?, ?, ?, ?, ?)", "export.holder", stock.getId(), 3,
+				MoneyTool.of(21), MoneyTool.parse("-1.5"));
+
+		MockHttpServletResponse stocks = new MockHttpServletResponse();
+		exportService.exportStocks("csv", stocks);
+		List<String> lines = stocks.getContentAsString().lines().toList();
+		assertEquals("id,stockName,stockPrice", lines.get(0));
+		assertTrue(lines.contains(stock.getId() + ",\"Export, \"\"Quoted\"\"\",7.0"));
+
+		MockHttpServletResponse holdings = new MockHttpServletResponse();
+		exportService.exportPlayers("CSV", true, holdings);
+		assertTrue(holdings.getContentAsString().lines().toList().contains(
+				"export.holder," + stock.getId() + ",\"Export, \"\"Quoted\"\"\",3,21.0,-1.5"));
+	}
+
+	@Test
+	void rejectsUnknownFormat() {
+		assertThrows(ParameterException.class,
+				() -> exportService.exportStocks("xml", new MockHttpServletResponse()));
+	}
+}
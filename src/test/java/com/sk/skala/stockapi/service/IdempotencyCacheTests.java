@@ -0,0 +1,128 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.exception.ResponseException;
+
+class IdempotencyCacheTests {
+
+	@Test
+	void concurrentDuplicatesRunOnce() throws Exception {
+		IdempotencyCache cache = cache(100);
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Response>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(pool.submit(() -> cache.execute("p1", "k1", "order", () -> {
+					executions.incrementAndGet();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return new Response();
+				})));
+			}
+			Thread.sleep(100);
+			release.countDown();
+
+			Response first = futures.get(0).get();
+			for (Future<Response> future : futures) {
+				assertSame(first, future.get());
+			}
+			assertEquals(1, executions.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void failuresAreNotCachedAndKeysAreChecked() {
+		IdempotencyCache cache = cache(100);
+		assertThrows(ResponseException.class, () -> cache.execute("p1", "k1", "order", () -> {
+			throw new ResponseException(Error.INSUFFICIENT_FUNDS);
+		}));
+
+		Response response = cache.execute("p1", "k1", "order", Response::new);
+		assertSame(response, cache.execute("p1", "k1", "order", Response::new));
+
+		ResponseException e = assertThrows(ResponseException.class,
+				() -> cache.execute("p1", "k1", "other", Response::new));
+		assertEquals(Error.INVALID_PARAMETER.getCode(), e.getCode());
+
+		// 다른 플레이어의 같은 키는 별개
+		assertNotSame(response, cache.execute("p2", "k1", "other", Response::new));
+	}
+
+	// 결과를 알 수 없는 실패는 남겨서 같은 키 재시도에 다시 실행하지 않고 같은 예외
+	@Test
+	void uncertainFailuresAreKept() {
+		IdempotencyCache cache = cache(100);
+		AtomicInteger executions = new AtomicInteger();
+		ResponseException failure = new ResponseException(Error.SYSTEM_ERROR, "interrupted");
+		assertThrows(ResponseException.class, () -> cache.execute("p1", "k1", "order", () -> {
+			executions.incrementAndGet();
+			throw failure;
+		}));
+
+		assertSame(failure, assertThrows(ResponseException.class, () -> cache.execute("p1", "k1", "order", () -> {
+			executions.incrementAndGet();
+			return new Response();
+		})));
+		assertEquals(1, executions.get());
+	}
+
+	// 처리 중으로 먼저 응답한 요청: 최종 결과가 나오면 같은 키 재요청은 그 결과를 받음
+	@Test
+	void pendingResponsesAreReplacedByTheOutcome() {
+		IdempotencyCache cache = cache(100);
+		CompletableFuture<Response> outcome = new CompletableFuture<>();
+		Response accepted = cache.execute("p1", "k1", "order", () -> {
+			cache.completeWith("p1", "k1", outcome);
+			return new Response();
+		});
+		assertSame(accepted, cache.execute("p1", "k1", "order", Response::new));
+
+		Response filled = new Response();
+		outcome.complete(filled);
+		assertSame(filled, cache.execute("p1", "k1", "order", Response::new));
+	}
+
+	@Test
+	void capacityIsBounded() {
+		IdempotencyCache cache = cache(64);
+		for (int i = 0; i < 1000; i++) {
+			cache.execute("p1", "k" + i, "order", Response::new);
+		}
+		assertEquals(64, cache.size());
+	}
+
+	private IdempotencyCache cache(int capacity) {
+		ApplicationProperties properties = new ApplicationProperties();
+		properties.getIdempotency().setCapacity(capacity);
+		properties.getIdempotency().setStripes(1);
+		IdempotencyCache cache = new IdempotencyCache(properties);
+		cache.init();
+		return cache;
+	}
+}
@@ -0,0 +1,142 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.ImportReport;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest(properties = {
+		"application.bulk-import.chunk-size=3" })
+class ImportServiceTests {
+
+	@Autowired
+	private ImportService importService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private StockCache stockCache;
+	@Autowired
+	private PriceSimulator priceSimulator;
+	@Autowired
+	private ApplicationProperties applicationProperties;
+
+	// 정상 행은 여러 묶음으로 반영, 중복/형식 오류 행만 행 번호와 함께 보고
+	@Test
+	void importsPlayersAndReportsBadRows() throws Exception {
+		playerRepository.save(new Player("import.existing", 0));
+
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 7; i++) {
+			body.append("{\"playerId\":\"import.p").append(i).append("\",\"playerPassword\":\"pw\",\"playerMoney\":")
+					.append(i).append(".5}\n");
+		}
+		body.append("{\"playerId\":\"import.existing\",\"playerPassword\":\"pw\"}\n");
+		body.append("{\"playerId\":\"import.p0\",\"playerPassword\":\"pw\"}\n");
+		body.append("\n");
+		body.append("{\"playerId\":\"import.nopw\"}\n");
+		body.append("{\"playerId\":\"import.negative\",\"playerPassword\":\"pw\",\"playerMoney\":-1}\n");
+		body.append("{not json\n");
+
+		ImportReport report = (ImportReport) importService.importPlayers("ndjson", stream(body.toString())).getBody();
+
+		assertEquals(12, report.getTotal());
+		assertEquals(7, report.getImported());
+		assertEquals(5, report.getFailed());
+		List<Long> rows = report.getErrors().stream().map(ImportReport.RowError::getRow).toList();
+		assertEquals(List.of(8L, 9L, 10L, 11L, 12L), rows);
+		assertEquals(Error.DATA_DUPLICATED.getCode(), report.getErrors().get(0).getCode());
+		assertEquals("import.p0", report.getErrors().get(1).getKey());
+		assertEquals(Error.INVALID_PARAMETER.getCode(), report.getErrors().get(4).getCode());
+
+		Player player = playerRepository.findById("import.p6").orElseThrow();
+		assertEquals(MoneyTool.parse("6.5"), player.getPlayerMoney());
+		assertEquals("pw", player.getPlayerPassword());
+		assertFalse(playerRepository.existsById("import.negative"));
+	}
+
+	// CSV: 헤더 순서 무관, 따옴표 안의 쉼표/줄바꿈, 생성된 id 로 종목 캐시 조회 가능
+	@Test
+	void importsStocksFromCsv() throws Exception {
+		stockRepository.save(new Stock("Import Existing", MoneyTool.of(1)));
+		String body = "stockPrice,stockName\r\n"
+				+ "10,Import A\r\n"
+				+ "20.25,\"Import, \"\"B\"\"\nLine\"\r\n"
+				+ "5,Import Existing\r\n"
+				+ "0,Import Zero\r\n"
+				+ "30,Import C\r\n";
+
+		ImportReport report = (ImportReport) importService.importStocks("csv", stream(body)).getBody();
+
+		assertEquals(5, report.getTotal());
+		assertEquals(3, report.getImported());
+		assertEquals(2, report.getFailed());
+		Stock quoted = stockRepository.findByStockName("Import, \"B\"\nLine").orElseThrow();
+		assertEquals(MoneyTool.parse("20.25"), quoted.getStockPrice());
+		assertEquals(quoted.getStockName(), stockCache.get(quoted.getId()).getStockName());
+		assertTrue(stockRepository.findByStockName("Import C").isPresent());
+	}
+
+	// 종목 수만큼 시뮬레이터 slot 배열을 복사하면(종목 수의 제곱) 수 분 걸리는 크기, 묶음 단위 등록이면 몇 초
+	@Test
+	void importsManyStocksIntoTheSimulator() throws Exception {
+		int count = 50_000;
+		StringBuilder body = new StringBuilder("stockName,stockPrice\n");
+		for (int i = 0; i < count; i++) {
+			body.append("Bulk ").append(i).append(',').append(i % 100 + 1).append('\n');
+		}
+
+		ApplicationProperties.BulkImport bulkImport = applicationProperties.getBulkImport();
+		ApplicationProperties.Simulator simulator = applicationProperties.getSimulator();
+		int chunkSize = bulkImport.getChunkSize();
+		bulkImport.setChunkSize(1000);
+		simulator.setEnabled(true);
+		ImportReport report;
+		long elapsed;
+		try {
+			long started = System.currentTimeMillis();
+			report = (ImportReport) importService.importStocks("csv", stream(body.toString())).getBody();
+			elapsed = System.currentTimeMillis() - started;
+		} finally {
+			bulkImport.setChunkSize(chunkSize);
+			simulator.setEnabled(false);
+		}
+
+		assertEquals(count, report.getImported());
+		assertTrue(elapsed < 30_000, "imported " + count + " stocks in " + elapsed + "ms");
+		for (String name : List.of("Bulk 0", "Bulk 12345", "Bulk 49999")) {
+			Stock stock = stockRepository.findByStockName(name).orElseThrow();
+			assertEquals(stock.getStockPrice(), priceSimulator.price(stock.getId(), -1));
+		}
+	}
+
+	@Test
+	void rejectsMissingCsvColumn() {
+		assertThrows(ParameterException.class, () -> importService.importStocks("csv", stream("stockName\nX\n")));
+	}
+
+	private static InputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
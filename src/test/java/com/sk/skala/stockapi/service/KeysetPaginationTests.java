@@ -0,0 +1,68 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.common.PagedList;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.exception.ParameterException;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+class KeysetPaginationTests {
+
+	@Autowired
+	private PlayerService playerService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	// 커서를 따라가면 전체를 playerId 순으로 한 번씩, 페이지마다 쿼리 한 번 (COUNT 없음)
+	@Test
+	void walksAllPlayersInKeyOrder() {
+		for (int i = 0; i < 25; i++) {
+			playerRepository.save(new Player(String.format("page.%03d", i), 0));
+		}
+		List<String> expected = playerRepository.findAll().stream().map(Player::getPlayerId).sorted().toList();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<String> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			statistics.clear();
+			PagedList page = (PagedList) playerService.getPlayersAfter(cursor, 10).getBody();
+			assertEquals(1, statistics.getPrepareStatementCount());
+			assertEquals(-1, page.getTotal());
+			@SuppressWarnings("unchecked")
+			List<Player> players = (List<Player>) page.getList();
+			players.forEach(p -> seen.add(p.getPlayerId()));
+			cursor = page.getNext();
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(expected, seen);
+		assertEquals((expected.size() + 9) / 10, pages);
+	}
+
+	@Test
+	void rejectsInvalidCursorAndLimit() {
+		assertThrows(ParameterException.class, () -> playerService.getPlayersAfter("%%%", 10));
+		assertThrows(ParameterException.class, () -> playerService.getPlayersAfter(null, 0));
+		assertNull(((PagedList) playerService.getPlayersAfter(null, 1000).getBody()).getNext());
+	}
+}
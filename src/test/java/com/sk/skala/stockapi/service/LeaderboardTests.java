@@ -0,0 +1,134 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.dto.PlayerRanking;
+import com.sk.skala.stockapi.data.dto.PortfolioDto;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest
+class LeaderboardTests {
+
+	@Autowired
+	private Leaderboard leaderboard;
+	@Autowired
+	private PlayerService playerService;
+	@Autowired
+	private StockService stockService;
+	@Autowired
+	private OrderService orderService;
+
+	// 체결/시세 변경/잔액 변경/삭제가 순위에 바로 반영
+	@Test
+	void updatesIncrementally() {
+		Stock stock = (Stock) stockService.createStock(new Stock("LB-STOCK", MoneyTool.of(10))).getBody();
+		createPlayer("lb.cash", 2_000_000);
+		createPlayer("lb.trader", 1_999_000);
+
+		assertEquals(List.of("lb.cash", "lb.trader"), topIds(2));
+
+		// 현금 → 주식은 순자산이 그대로
+		buy("lb.trader", stock, 100);
+		assertEquals(MoneyTool.of(1_999_000), leaderboard.rank("lb.trader").getNetWorth());
+		assertEquals(MoneyTool.of(1_998_000), leaderboard.rank("lb.trader").getPlayerMoney());
+
+		// 10 → 30 이면 평가액 +2000
+		stock.setStockPrice(MoneyTool.of(30));
+		stockService.updateStock(stock);
+		assertEquals(List.of("lb.trader", "lb.cash"), topIds(2));
+		assertEquals(MoneyTool.of(2_001_000), leaderboard.rank("lb.trader").getNetWorth());
+		assertEquals(2, leaderboard.rank("lb.cash").getRank());
+
+		Player update = new Player("lb.cash", MoneyTool.of(3_000_000));
+		update.setPlayerMoney(MoneyTool.of(3_000_000));
+		playerService.updatePlayer(update);
+		assertEquals(1, leaderboard.rank("lb.cash").getRank());
+
+		playerService.deletePlayer(new Player("lb.cash", 0));
+		assertNull(leaderboard.rank("lb.cash"));
+		assertEquals(1, leaderboard.rank("lb.trader").getRank());
+	}
+
+	// 평균 단가 원가, 평가액, 평가 손익
+	@Test
+	void portfolioTracksCostAndMarketValue() {
+		Stock stock = (Stock) stockService.createStock(new Stock("PF-STOCK", MoneyTool.of(10))).getBody();
+		createPlayer("pf.player", 10_000);
+
+		buy("pf.player", stock, 100);
+		stock.setStockPrice(MoneyTool.of(20));
+		stockService.updateStock(stock);
+		buy("pf.player", stock, 100);
+		stock.setStockPrice(MoneyTool.of(30));
+		stockService.updateStock(stock);
+
+		PortfolioDto portfolio = leaderboard.portfolio("pf.player");
+		assertEquals(MoneyTool.of(7_000), portfolio.getPlayerMoney());
+		assertEquals(MoneyTool.of(6_000), portfolio.getMarketValue());
+		assertEquals(MoneyTool.of(13_000), portfolio.getEquity());
+		assertEquals(MoneyTool.of(3_000), portfolio.getCostBasis());
+		assertEquals(MoneyTool.of(3_000), portfolio.getUnrealizedPnl());
+
+		PortfolioDto.Holding holding = portfolio.getHoldings().get(0);
+		assertEquals("PF-STOCK", holding.getStockName());
+		assertEquals(200, holding.getQuantity());
+		assertEquals(MoneyTool.of(30), holding.getStockPrice());
+
+		// 절반 매도 → 원가도 절반
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setStockQuantity(100);
+		orderService.placeOrder("pf.player", OrderSide.SELL, order);
+		portfolio = leaderboard.portfolio("pf.player");
+		assertEquals(MoneyTool.of(1_500), portfolio.getCostBasis());
+		assertEquals(MoneyTool.of(1_500), portfolio.getUnrealizedPnl());
+		assertEquals(MoneyTool.of(13_000), portfolio.getEquity());
+	}
+
+	// 삭제된 종목은 더 이상 평가에 들어가지 않음
+	@Test
+	void dropsHoldingsOfRemovedStock() {
+		Stock stock = (Stock) stockService.createStock(new Stock("LB-REMOVED", MoneyTool.of(10))).getBody();
+		createPlayer("rm.player", 1_000);
+		buy("rm.player", stock, 10);
+		stock.setStockPrice(MoneyTool.of(30));
+		stockService.updateStock(stock);
+		assertEquals(MoneyTool.of(1_200), leaderboard.rank("rm.player").getNetWorth());
+
+		leaderboard.onStockRemove(stock.getId());
+
+		assertEquals(MoneyTool.of(900), leaderboard.rank("rm.player").getNetWorth());
+		assertTrue(leaderboard.portfolio("rm.player").getHoldings().isEmpty());
+		leaderboard.onPrice(stock.getId(), MoneyTool.of(50));
+		assertEquals(MoneyTool.of(900), leaderboard.rank("rm.player").getNetWorth());
+	}
+
+	private void createPlayer(String playerId, long units) {
+		Player player = new Player(playerId, MoneyTool.of(units));
+		player.setPlayerPassword("pw");
+		playerService.createPlayer(player);
+	}
+
+	private void buy(String playerId, Stock stock, int quantity) {
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setStockQuantity(quantity);
+		orderService.placeOrder(playerId, OrderSide.BUY, order);
+	}
+
+	private List<String> topIds(int top) {
+		return leaderboard.top(top).stream().map(PlayerRanking::getPlayerId).toList();
+	}
+}
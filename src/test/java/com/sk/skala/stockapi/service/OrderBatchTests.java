@@ -0,0 +1,94 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class OrderBatchTests {
+
+	@Autowired
+	private OrderService orderService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// 가운데 주문이 잔액 부족으로 실패해도 앞뒤 주문은 요청 순서대로 반영되고, 참조 종목은 쿼리 한 번에 적재
+	@Test
+	void appliesOrdersInRequestOrderAroundAFailedOne() {
+		Stock a = stockRepository.save(new Stock("BATCH-A", MoneyTool.of(10)));
+		Stock b = stockRepository.save(new Stock("BATCH-B", MoneyTool.of(20)));
+		playerRepository.save(new Player("batch", MoneyTool.of(100)));
+		long loads = meterRegistry.get("stock.cache.load").timer().count();
+
+		List<Response> results = orderService.placeBatch("batch", List.of(
+				order(a, OrderSide.BUY, 3),
+				order(b, OrderSide.BUY, 10),
+				order(a, OrderSide.SELL, 1),
+				order(b, OrderSide.BUY, 1)));
+
+		assertEquals(loads + 1, meterRegistry.get("stock.cache.load").timer().count());
+		assertEquals(4, results.size());
+		assertEquals(Response.SUCCESS, results.get(0).getResult());
+		assertEquals(Error.INSUFFICIENT_FUNDS.getCode(), results.get(1).getCode());
+		assertEquals(Response.SUCCESS, results.get(2).getResult());
+		assertEquals(Response.SUCCESS, results.get(3).getResult());
+		assertEquals(3, ((OrderResult) results.get(0).getBody()).getFilledQuantity());
+		assertEquals(Long.valueOf(MoneyTool.of(10)), ((OrderResult) results.get(2).getBody()).getAveragePrice());
+
+		// 100 - 30 + 10 - 20
+		assertEquals(MoneyTool.of(60), playerRepository.findMoneyById("batch").orElseThrow());
+		assertEquals(2, playerStockRepository.findQuantity("batch", a.getId()).orElseThrow());
+		assertEquals(1, playerStockRepository.findQuantity("batch", b.getId()).orElseThrow());
+	}
+
+	// 없는 종목/side 누락은 해당 주문만 실패
+	@Test
+	void rejectsInvalidOrdersIndividually() {
+		Stock a = stockRepository.save(new Stock("BATCH-C", MoneyTool.of(10)));
+		playerRepository.save(new Player("batch-invalid", MoneyTool.of(100)));
+		StockOrder missingSide = order(a, OrderSide.BUY, 1);
+		missingSide.setSide(null);
+		StockOrder unknownStock = order(a, OrderSide.BUY, 1);
+		unknownStock.setStockId(Long.MAX_VALUE);
+
+		List<Response> results = orderService.placeBatch("batch-invalid",
+				List.of(missingSide, unknownStock, order(a, OrderSide.BUY, 1)));
+
+		assertEquals(Error.PARAMETER_MISSED.getCode(), results.get(0).getCode());
+		assertEquals(Error.DATA_NOT_FOUND.getCode(), results.get(1).getCode());
+		assertEquals(Response.SUCCESS, results.get(2).getResult());
+		assertEquals(MoneyTool.of(90), playerRepository.findMoneyById("batch-invalid").orElseThrow());
+	}
+
+	private StockOrder order(Stock stock, OrderSide side, int quantity) {
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setSide(side);
+		order.setStockQuantity(quantity);
+		return order;
+	}
+}
@@ -0,0 +1,253 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.MatchingEngine;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import lombok.extern.slf4j.Slf4j;
+
+@SpringBootTest(properties = {
+		"application.sequencer.enabled=true" })
+@Slf4j
+class OrderSequencerTests {
+
+	private static final int THREADS = 8;
+	private static final int PLAYERS = 32;
+	private static final int ORDERS = 2048;
+	private static final long MONEY = MoneyTool.of(10000);
+
+	@Autowired
+	private OrderService orderService;
+	@Autowired
+	private OrderSequencer orderSequencer;
+	@Autowired
+	private AsyncOrderExecutor asyncOrderExecutor;
+	@Autowired
+	private MatchingEngine matchingEngine;
+	@Autowired
+	private ApplicationProperties applicationProperties;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+	@Autowired
+	private StockRepository stockRepository;
+
+	interface Submit {
+		void order(String playerId, StockOrder order);
+	}
+
+	@Test
+	void keepsBalancesExactWhenThreadsShareThePlayers() throws Exception {
+		Stock stock = stockRepository.save(new Stock("SEQ-SHARED", MoneyTool.of(1)));
+		createPlayers("shared-");
+
+		run(stock, (t, j) -> "shared-" + (j % PLAYERS),
+				(playerId, order) -> orderSequencer.execute(playerId, OrderSide.BUY, order));
+
+		int perPlayer = ORDERS / PLAYERS;
+		for (int i = 0; i < PLAYERS; i++) {
+			Player player = playerRepository.findById("shared-" + i).orElseThrow();
+			assertEquals(MONEY - MoneyTool.of(perPlayer), player.getPlayerMoney());
+			assertEquals(perPlayer, playerStockRepository.findByPlayerAndStock(player, stock).orElseThrow().getQuantity());
+		}
+	}
+
+	// 같은 부하(스레드별로 겹치지 않는 플레이어)에서 요청 스레드 직접 처리 vs 시퀀서 처리량 비교
+	// 두 경로 모두 모든 주문이 체결되고 플레이어별 잔액/보유 수량이 같아야 함
+	@Test
+	void comparesThroughputWithDirectPath() throws Exception {
+		Stock stock = stockRepository.save(new Stock("SEQ-COMPARE", MoneyTool.of(1)));
+		createPlayers("direct-");
+		createPlayers("lane-");
+
+		long direct = run(stock, (t, j) -> "direct-" + (t + THREADS * (j % (PLAYERS / THREADS))),
+				(playerId, order) -> assertEquals(OrderResult.Status.FILLED,
+						orderService.placeOrder(playerId, OrderSide.BUY, order).getStatus()));
+		long sequenced = run(stock, (t, j) -> "lane-" + (t + THREADS * (j % (PLAYERS / THREADS))),
+				(playerId, order) -> assertEquals(OrderResult.Status.FILLED,
+						orderSequencer.execute(playerId, OrderSide.BUY, order).getStatus()));
+
+		log.info("order throughput: direct={} orders/s, sequencer={} orders/s",
+				ORDERS * 1000L / Math.max(direct, 1), ORDERS * 1000L / Math.max(sequenced, 1));
+		int perPlayer = ORDERS / PLAYERS;
+		for (int i = 0; i < PLAYERS; i++) {
+			assertEquals(MONEY - MoneyTool.of(perPlayer), playerRepository.findMoneyById("direct-" + i).orElseThrow());
+			assertEquals(MONEY - MoneyTool.of(perPlayer), playerRepository.findMoneyById("lane-" + i).orElseThrow());
+			assertEquals(perPlayer, playerStockRepository.findQuantity("lane-" + i, stock.getId()).orElseThrow());
+		}
+	}
+
+	// timeout 안에 커밋되지 않은 주문은 실패가 아니라 ACCEPTED(주문번호)로 응답하고, 그 주문번호로 최종 결과 조회
+	@Test
+	void returnsPendingOrderIdWhenTheLaneTimesOut() throws Exception {
+		Stock stock = stockRepository.save(new Stock("SEQ-TIMEOUT", MoneyTool.of(1)));
+		playerRepository.save(new Player("seq-timeout", MoneyTool.of(10)));
+		StockOrder batched = market(stock, 1);
+		batched.setSide(OrderSide.BUY);
+
+		// 호가창을 잡아서 lane 이 매칭 단계에서 기다리게 함
+		CountDownLatch held = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService holder = Executors.newSingleThreadExecutor();
+		Future<?> holding = holder.submit(() -> matchingEngine.execute(stock.getId(), book -> {
+			held.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}));
+		held.await();
+
+		long timeout = applicationProperties.getSequencer().getTimeout();
+		applicationProperties.getSequencer().setTimeout(50);
+		OrderResult pending;
+		List<Response> batch;
+		try {
+			pending = orderSequencer.execute("seq-timeout", OrderSide.BUY, market(stock, 2));
+			batch = orderSequencer.executeAll("seq-timeout", List.of(batched));
+		} finally {
+			applicationProperties.getSequencer().setTimeout(timeout);
+			release.countDown();
+			holding.get();
+			holder.shutdown();
+		}
+
+		assertEquals(OrderResult.Status.ACCEPTED, pending.getStatus());
+		assertEquals(OrderSide.BUY, pending.getSide());
+		assertEquals(Response.SUCCESS, batch.get(0).getResult());
+		OrderResult batchPending = (OrderResult) batch.get(0).getBody();
+		assertEquals(OrderResult.Status.ACCEPTED, batchPending.getStatus());
+
+		assertEquals(OrderResult.Status.FILLED, awaitAsync("seq-timeout", pending.getOrderId()).getStatus());
+		assertEquals(OrderResult.Status.FILLED, awaitAsync("seq-timeout", batchPending.getOrderId()).getStatus());
+		assertEquals(MoneyTool.of(7), playerRepository.findMoneyById("seq-timeout").orElseThrow());
+	}
+
+	// 같은 batch 의 가운데 주문이 비즈니스 예외가 아닌 DB 오류(BIGINT overflow)로 실패해도 그 주문만 실패하고 나머지는 반영
+	@Test
+	void failsOnlyTheOrderThatHitsADatabaseError() throws Exception {
+		Stock stock = stockRepository.save(new Stock("SEQ-ISOLATE", MoneyTool.of(1)));
+		Player player = playerRepository.save(new Player("isolate", Long.MAX_VALUE - MoneyTool.of(1)));
+		playerStockRepository.save(new PlayerStock(player, stock, 10));
+
+		// 매수 1주 후 잔액 MAX - 2, 매도 3주 입금은 overflow → batch 롤백 후 주문별 재처리에서 매도 주문만 실패
+		List<OrderTask> tasks = List.of(
+				orderSequencer.submit("isolate", OrderSide.BUY, market(stock, 1)),
+				orderSequencer.submit("isolate", OrderSide.SELL, market(stock, 3)),
+				orderSequencer.submit("isolate", OrderSide.BUY, market(stock, 1)));
+
+		assertEquals(OrderResult.Status.FILLED, tasks.get(0).getFuture().get().getStatus());
+		ExecutionException failed = assertThrows(ExecutionException.class, () -> tasks.get(1).getFuture().get());
+		assertFalse(failed.getCause() instanceof ResponseException);
+		assertEquals(OrderResult.Status.FILLED, tasks.get(2).getFuture().get().getStatus());
+
+		assertEquals(Long.MAX_VALUE - MoneyTool.of(3), playerRepository.findMoneyById("isolate").orElseThrow());
+		assertEquals(12, playerStockRepository.findQuantity("isolate", stock.getId()).orElseThrow());
+	}
+
+	// 시퀀서가 켜져 있으면 비동기 주문도 lane 에서 처리되고 접수 때 받은 주문번호 그대로 결과 조회
+	@Test
+	void routesAsyncOrdersThroughTheLanes() throws Exception {
+		Stock stock = stockRepository.save(new Stock("SEQ-ASYNC", MoneyTool.of(1)));
+		playerRepository.save(new Player("seq-async", MoneyTool.of(5)));
+
+		List<Long> orderIds = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			StockOrder order = market(stock, 1);
+			order.setSide(OrderSide.BUY);
+			orderIds.add(asyncOrderExecutor.accept("seq-async", order).getOrderId());
+		}
+
+		int filled = 0;
+		for (Long orderId : orderIds) {
+			OrderResult result = awaitAsync("seq-async", orderId);
+			assertEquals(orderId, result.getOrderId());
+			if (result.getStatus() == OrderResult.Status.FILLED) {
+				filled++;
+			}
+		}
+		assertEquals(5, filled);
+		assertEquals(0L, playerRepository.findMoneyById("seq-async").orElseThrow());
+	}
+
+	private OrderResult awaitAsync(String playerId, Long orderId) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			OrderResult result = asyncOrderExecutor.getOrder(playerId, orderId);
+			if (result.getStatus() != OrderResult.Status.ACCEPTED) {
+				return result;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("order " + orderId + " not executed");
+	}
+
+	private StockOrder market(Stock stock, int quantity) {
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setStockQuantity(quantity);
+		return order;
+	}
+
+	interface PlayerPicker {
+		String pick(int thread, int index);
+	}
+
+	private void createPlayers(String prefix) {
+		for (int i = 0; i < PLAYERS; i++) {
+			playerRepository.save(new Player(prefix + i, MONEY));
+		}
+	}
+
+	// 경과 시간(ms) 반환
+	private long run(Stock stock, PlayerPicker picker, Submit submit) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		long start = System.currentTimeMillis();
+		for (int t = 0; t < THREADS; t++) {
+			int thread = t;
+			futures.add(executor.submit(() -> {
+				for (int j = 0; j < ORDERS / THREADS; j++) {
+					StockOrder order = new StockOrder();
+					order.setStockId(stock.getId());
+					order.setStockQuantity(1);
+					submit.order(picker.pick(thread, j), order);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+		return System.currentTimeMillis() - start;
+	}
+}
@@ -0,0 +1,174 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.OrderResult;
+import com.sk.skala.stockapi.data.dto.StockOrder;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.engine.MatchingEngine;
+import com.sk.skala.stockapi.engine.OrderSide;
+import com.sk.skala.stockapi.engine.RestingOrder;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest(properties = {
+		"spring.datasource.hikari.maximum-pool-size=64" })
+class OrderServiceConcurrencyTests {
+
+	private static final int THREADS = 64;
+	private static final int ORDERS_PER_THREAD = 4;
+
+	@Autowired
+	private OrderService orderService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private StockService stockService;
+	@Autowired
+	private MatchingEngine matchingEngine;
+	@Autowired
+	private PlayerService playerService;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	// 잔액 1000 / 단가 10 → 64 스레드가 동시에 사도 정확히 100주만 체결
+	@Test
+	void noDoubleSpendUnderConcurrentBuys() throws Exception {
+		Stock stock = stockRepository.save(new Stock("CONC-BUY", MoneyTool.of(10)));
+		playerRepository.save(new Player("buyer", MoneyTool.of(1000)));
+
+		int filled = race(stock, "buyer", OrderSide.BUY, Error.INSUFFICIENT_FUNDS);
+
+		assertEquals(100, filled);
+		assertEquals(0L, playerRepository.findMoneyById("buyer").orElseThrow());
+		assertEquals(100, playerStockRepository.findQuantity("buyer", stock.getId()).orElseThrow());
+	}
+
+	@Test
+	void noOversellUnderConcurrentSells() throws Exception {
+		Stock stock = stockRepository.save(new Stock("CONC-SELL", MoneyTool.of(10)));
+		Player seller = playerRepository.save(new Player("seller", 0));
+		playerStockRepository.save(new PlayerStock(seller, stock, 100));
+
+		// 보유 수량이 0 이 돼도 실현 손익 보존을 위해 보유 내역은 남으므로 이후 매도는 INSUFFICIENT_QUANTITY
+		int filled = race(stock, "seller", OrderSide.SELL, Error.INSUFFICIENT_QUANTITY);
+
+		assertEquals(100, filled);
+		assertEquals(MoneyTool.of(1000), playerRepository.findMoneyById("seller").orElseThrow());
+		assertEquals(0, playerStockRepository.findQuantity("seller", stock.getId()).orElseThrow());
+	}
+
+	// 체결 후 트랜잭션이 롤백되면 maker 대기 주문도 호가창에 그대로 남아야 함 (DB 와 호가창 일치)
+	@Test
+	void bookIsRevertedWhenTransactionRollsBack() {
+		Stock stock = stockRepository.save(new Stock("ROLLBACK", MoneyTool.of(10)));
+		Player maker = playerRepository.save(new Player("rb-maker", 0));
+		playerStockRepository.save(new PlayerStock(maker, stock, 5));
+		playerRepository.save(new Player("rb-taker", MoneyTool.of(1000)));
+
+		OrderResult resting = orderService.placeOrder("rb-maker", OrderSide.SELL, limit(stock, 5, 20));
+		assertEquals(OrderResult.Status.RESTING, resting.getStatus());
+		// 현재가가 매도 호가 위로 올라가야 지정가 매수가 호가창의 maker 와 체결됨
+		stock.setStockPrice(MoneyTool.of(30));
+		stockService.updateStock(stock);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			OrderResult taken = orderService.placeOrder("rb-taker", OrderSide.BUY, limit(stock, 5, 20));
+			assertEquals(OrderResult.Status.FILLED, taken.getStatus());
+			assertNull(find(stock, resting.getOrderId()));
+			status.setRollbackOnly();
+		});
+
+		assertEquals(5, find(stock, resting.getOrderId()).getRemaining());
+		assertEquals(5, playerStockRepository.findQuantity("rb-maker", stock.getId()).orElseThrow());
+		assertEquals(MoneyTool.of(1000), playerRepository.findMoneyById("rb-taker").orElseThrow());
+	}
+
+	// 플레이어를 삭제하면 그 플레이어의 대기 주문도 호가창에서 빠짐
+	@Test
+	void deletingPlayerCancelsRestingOrders() {
+		Stock stock = stockRepository.save(new Stock("DELETED-MAKER", MoneyTool.of(10)));
+		playerRepository.save(new Player("del-maker", MoneyTool.of(1000)));
+
+		OrderResult resting = orderService.placeOrder("del-maker", OrderSide.BUY, limit(stock, 5, 5));
+		assertEquals(OrderResult.Status.RESTING, resting.getStatus());
+
+		playerService.deletePlayer(new Player("del-maker", 0));
+
+		assertNull(find(stock, resting.getOrderId()));
+		assertNull(matchingEngine.findStockId(resting.getOrderId()));
+	}
+
+	private RestingOrder find(Stock stock, long orderId) {
+		return matchingEngine.execute(stock.getId(), book -> book.find(orderId));
+	}
+
+	private StockOrder limit(Stock stock, int quantity, long price) {
+		StockOrder order = new StockOrder();
+		order.setStockId(stock.getId());
+		order.setStockQuantity(quantity);
+		order.setOrderType(StockOrder.OrderType.LIMIT);
+		order.setLimitPrice(MoneyTool.of(price));
+		return order;
+	}
+
+	// 체결된 주문 수 반환 (예상한 거절 외의 예외는 실패)
+	private int race(Stock stock, String playerId, OrderSide side, Error... rejected) throws Exception {
+		Set<Integer> rejectedCodes = Arrays.stream(rejected).map(Error::getCode).collect(Collectors.toSet());
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger filled = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+					StockOrder order = new StockOrder();
+					order.setStockId(stock.getId());
+					order.setStockQuantity(1);
+					try {
+						orderService.placeOrder(playerId, side, order);
+						filled.incrementAndGet();
+					} catch (ResponseException e) {
+						assertTrue(rejectedCodes.contains(e.getCode()), e.getMessage());
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+		return filled.get();
+	}
+}
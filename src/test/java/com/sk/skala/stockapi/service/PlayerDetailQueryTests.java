@@ -0,0 +1,64 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.dto.PlayerStockListDto;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+class PlayerDetailQueryTests {
+
+	private static final int HOLDINGS = 20;
+
+	@Autowired
+	private PlayerService playerService;
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	// 보유 종목 수와 관계없이 보유 내역은 한 문장, 상세 조회 전체는 잔액 포함 두 문장 (엔티티 로딩 없음)
+	@Test
+	void holdingsLoadInOneStatement() {
+		Player player = playerRepository.save(new Player("detail.player", MoneyTool.of(100)));
+		for (int i = 0; i < HOLDINGS; i++) {
+			Stock stock = stockRepository.save(new Stock("DETAIL-" + i, MoneyTool.of(10 + i)));
+			playerStockRepository.save(new PlayerStock(player, stock, i + 1));
+		}
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertEquals(HOLDINGS, playerStockRepository.findDtoByPlayerId("detail.player").size());
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		statistics.clear();
+		PlayerStockListDto dto = (PlayerStockListDto) playerService.getPlayerById("detail.player").getBody();
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+
+		assertEquals(MoneyTool.of(100), dto.getPlayerMoney());
+		assertEquals(HOLDINGS, dto.getStocks().size());
+		assertEquals("DETAIL-3", dto.getStocks().get(3).getStockName());
+		assertEquals(MoneyTool.of(13), dto.getStocks().get(3).getStockPrice());
+		assertEquals(4, dto.getStocks().get(3).getQuantity());
+	}
+}
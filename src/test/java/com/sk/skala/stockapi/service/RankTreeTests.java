@@ -0,0 +1,43 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RankTreeTests {
+
+	// 무작위 추가/삭제 후 정렬 리스트와 순위/앞부분이 같아야 함
+	@Test
+	void matchesSortedList() {
+		Random random = new Random(42);
+		RankTree<Integer> tree = new RankTree<>(Comparator.reverseOrder());
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			int value = random.nextInt(100_000);
+			if (expected.contains(value)) {
+				continue;
+			}
+			tree.add(value);
+			expected.add(value);
+			if (i % 3 == 0) {
+				Integer removed = expected.remove(random.nextInt(expected.size()));
+				tree.remove(removed);
+			}
+		}
+		expected.sort(Comparator.reverseOrder());
+
+		assertEquals(expected.size(), tree.size());
+		assertEquals(expected.subList(0, 100), tree.first(100));
+		for (int i = 0; i < expected.size(); i += 97) {
+			assertEquals(i, tree.rank(expected.get(i)));
+		}
+		assertEquals(-1, tree.rank(-1));
+		assertFalse(tree.remove(-1));
+	}
+}
@@ -0,0 +1,73 @@
+package com.sk.skala.stockapi.service;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.exception.RateLimitException;
+
+@SpringBootTest(properties = {
+		"application.rate-limit.ip-rate=1",
+		"application.rate-limit.ip-burst=2" })
+@AutoConfigureMockMvc
+class RateLimiterTests {
+
+	private static final String ORDER = "{\"stockId\":1,\"stockQuantity\":1}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	// 버스트를 넘으면 429 + RATE_LIMITED + Retry-After, 조회(GET)는 제한 없음
+	@Test
+	void rejectsOrdersOverTheLimit() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(post("/api/players/buy").contentType(MediaType.APPLICATION_JSON).content(ORDER))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.code").value(not(Error.RATE_LIMITED.getCode())));
+		}
+
+		mockMvc.perform(post("/api/players/sell").contentType(MediaType.APPLICATION_JSON).content(ORDER))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "1"))
+				.andExpect(jsonPath("$.code").value(Error.RATE_LIMITED.getCode()));
+
+		mockMvc.perform(get("/api/players/orders/1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value(Error.SESSION_NOT_FOUND.getCode()));
+	}
+
+	// 플레이어 기준으로 거절된 요청은 IP 토큰을 쓰지 않음 → 같은 IP 의 다른 플레이어는 그대로 허용
+	@Test
+	void playerRejectionKeepsTheAddressToken() {
+		ApplicationProperties properties = new ApplicationProperties();
+		ApplicationProperties.RateLimit config = properties.getRateLimit();
+		config.setEnabled(true);
+		config.setPlayerRate(1);
+		config.setPlayerBurst(1);
+		config.setIpRate(1);
+		config.setIpBurst(2);
+		RateLimiter limiter = new RateLimiter(properties);
+		limiter.start();
+		try {
+			limiter.acquire("p1", "10.0.0.1");
+			assertThrows(RateLimitException.class, () -> limiter.acquire("p1", "10.0.0.1"));
+			limiter.acquire("p2", "10.0.0.1");
+			assertThrows(RateLimitException.class, () -> limiter.acquire("p3", "10.0.0.1"));
+		} finally {
+			limiter.stop();
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.data.dto.CandleList;
+import com.sk.skala.stockapi.data.dto.RiskReport;
+import com.sk.skala.stockapi.data.table.Player;
+import com.sk.skala.stockapi.data.table.PlayerStock;
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.market.CandleInterval;
+import com.sk.skala.stockapi.market.CandleStore;
+import com.sk.skala.stockapi.market.PriceSimulator;
+import com.sk.skala.stockapi.repository.PlayerRepository;
+import com.sk.skala.stockapi.repository.PlayerStockRepository;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+@SpringBootTest
+class RiskServiceTests {
+
+	private static final double Z99 = 2.3263;
+	private static final int HISTORY = 240;
+	// 1 시간 봉 로그 수익률 ±0.01 교대 → 구간 표준편차 0.01
+	private static final double SIGMA = 0.01;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+	@Autowired
+	private PlayerStockRepository playerStockRepository;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private StockCache stockCache;
+	@Autowired
+	private PriceSimulator priceSimulator;
+
+	private final SeededCandles candles = new SeededCandles();
+	private final List<RiskService> services = new ArrayList<>();
+
+	@AfterEach
+	void stop() {
+		for (RiskService service : services) {
+			service.stop();
+		}
+	}
+
+	// 캔들 종가 수익률로 추정한 변동성: 1 시간 σ 를 1 일(24 구간)로 늘린 분포의 99% VaR
+	@Test
+	void estimatesVolatilityFromCandles() {
+		Stock stock = holding("risk-candle", "RISK-CANDLE");
+		candles.seed(stock.getId(), closes(SIGMA, -1));
+
+		RiskReport report = report(risk(1), "risk-candle");
+		assertEquals(1, report.getHoldings());
+		assertEquals(MoneyTool.of(1000), report.getPortfolioValue());
+		assertVar(1000, dailySigma(SIGMA, 1), report);
+		assertTrue(report.getExpectedShortfall() > report.getValueAtRisk());
+	}
+
+	// horizon-days 4 → σ 는 √4 배
+	@Test
+	void scalesWithTheHorizon() {
+		Stock stock = holding("risk-horizon", "RISK-HORIZON");
+		candles.seed(stock.getId(), closes(SIGMA, -1));
+
+		assertVar(1000, dailySigma(SIGMA, 1), report(risk(1), "risk-horizon"));
+		assertVar(1000, dailySigma(SIGMA, 4), report(risk(4), "risk-horizon"));
+	}
+
+	// 캔들이 없거나 가격이 한 번도 안 바뀐 종목은 시뮬레이터 설정 변동성(시간 단위, 종목별 설정 우선)
+	@Test
+	void fallsBackToTheConfiguredVolatility() {
+		holding("risk-default", "RISK-DEFAULT");
+		Stock flat = holding("risk-flat", "RISK-FLAT");
+		candles.seed(flat.getId(), closes(0, -1));
+		holding("risk-named", "RISK-NAMED");
+
+		RiskService risk = risk(1);
+		assertVar(1000, 0.02 * Math.sqrt(24), report(risk, "risk-default"));
+		assertVar(1000, 0.02 * Math.sqrt(24), report(risk, "risk-flat"));
+		assertVar(1000, 0.05 * Math.sqrt(24), report(risk, "risk-named"));
+	}
+
+	// 종가 0 인 봉은 건너뛰고 직전 종가 유지 (log(0) 으로 VaR 가 NaN → 0 이 되지 않음)
+	@Test
+	void skipsZeroCloses() {
+		Stock stock = holding("risk-zero", "RISK-ZERO");
+		candles.seed(stock.getId(), closes(SIGMA, HISTORY / 2));
+
+		assertVar(1000, dailySigma(SIGMA, 1), report(risk(1), "risk-zero"));
+	}
+
+	// 야간 배치: 전 플레이어를 한 번에 계산, 결과는 요청 시 계산과 같은 분포
+	@Test
+	void batchMatchesOnDemand() {
+		Stock stock = holding("risk-batch-a", "RISK-BATCH");
+		candles.seed(stock.getId(), closes(SIGMA, -1));
+		Player b = playerRepository.save(new Player("risk-batch-b", 0));
+		playerStockRepository.save(new PlayerStock(b, stock, 30));
+
+		RiskService risk = risk(1);
+		assertTrue(risk.runBatch() >= 2);
+
+		RiskReport a = (RiskReport) risk.getBatchRisk("risk-batch-a").getBody();
+		assertVar(1000, dailySigma(SIGMA, 1), a);
+		assertEquals(a.getValueAtRisk(), report(risk, "risk-batch-a").getValueAtRisk(), a.getValueAtRisk() * 0.05);
+		assertVar(3000, dailySigma(SIGMA, 1), (RiskReport) risk.getBatchRisk("risk-batch-b").getBody());
+	}
+
+	// 종목 가격 100 x 10 주 보유
+	private Stock holding(String playerId, String stockName) {
+		Stock stock = stockRepository.save(new Stock(stockName, MoneyTool.of(100)));
+		Player player = playerRepository.save(new Player(playerId, 0));
+		playerStockRepository.save(new PlayerStock(player, stock, 10));
+		return stock;
+	}
+
+	private RiskService risk(int horizonDays) {
+		ApplicationProperties properties = new ApplicationProperties();
+		properties.getRisk().setPaths(100_000);
+		properties.getRisk().setBatchPaths(100_000);
+		properties.getRisk().setBatchEnabled(false);
+		properties.getRisk().setInterval("1h");
+		properties.getRisk().setHistory(HISTORY);
+		properties.getRisk().setHorizonDays(horizonDays);
+		properties.getSimulator().setVolatility(0.02);
+		ApplicationProperties.Simulator.Model named = new ApplicationProperties.Simulator.Model();
+		named.setVolatility(0.05);
+		properties.getSimulator().getStocks().put("RISK-NAMED", named);
+
+		RiskService service = new RiskService(properties, playerRepository, playerStockRepository, stockCache,
+				priceSimulator, candles);
+		service.start();
+		services.add(service);
+		return service;
+	}
+
+	private RiskReport report(RiskService risk, String playerId) {
+		return (RiskReport) risk.getRisk(playerId).getBody();
+	}
+
+	// 표본 분산(n - 1) 기준 구간 σ 를 기간으로 늘린 값
+	private double dailySigma(double sigma, int horizonDays) {
+		return sigma * Math.sqrt((double) HISTORY / (HISTORY - 1) * 24 * horizonDays);
+	}
+
+	private void assertVar(double value, double sigma, RiskReport report) {
+		double expected = value * -Math.expm1(-Z99 * sigma);
+		assertEquals(expected, MoneyTool.toDouble(report.getValueAtRisk()), expected * 0.05);
+	}
+
+	// HISTORY + 1 개 종가 (100 에서 시작, 로그 수익률 ±sigma 교대), zeroAt 위치는 종가 0
+	private long[] closes(double sigma, int zeroAt) {
+		long[] closes = new long[HISTORY + 1];
+		double logPrice = Math.log(100);
+		for (int i = 0; i < closes.length; i++) {
+			if (i > 0) {
+				logPrice += i % 2 == 0 ? sigma : -sigma;
+			}
+			closes[i] = i == zeroAt ? 0 : Math.round(Math.exp(logPrice) * MoneyTool.SCALE);
+		}
+		return closes;
+	}
+
+	// 현재 구간까지 1 시간 봉을 정해 둔 종가로 돌려주는 캔들 저장소
+	private static class SeededCandles extends CandleStore {
+		private final Map<Long, long[]> closes = new HashMap<>();
+
+		SeededCandles() {
+			super(new ApplicationProperties(), null);
+		}
+
+		void seed(Long stockId, long[] close) {
+			closes.put(stockId, close);
+		}
+
+		@Override
+		public CandleList getCandles(Long stockId, CandleInterval interval, int limit) {
+			long[] close = closes.get(stockId);
+			if (close == null) {
+				return null;
+			}
+			long end = interval.bucket(System.currentTimeMillis());
+			CandleList list = new CandleList(stockId, interval.getLabel(), close.length);
+			for (int i = 0; i < close.length; i++) {
+				list.getTime()[i] = end - (long) (close.length - 1 - i) * interval.getMillis();
+				list.getOpen()[i] = close[i];
+				list.getHigh()[i] = close[i];
+				list.getLow()[i] = close[i];
+				list.getClose()[i] = close[i];
+			}
+			return list;
+		}
+	}
+}
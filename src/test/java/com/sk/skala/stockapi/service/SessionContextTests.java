@@ -0,0 +1,108 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Constant;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.config.SessionFilter;
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
+import com.sk.skala.stockapi.data.dto.PlayerSession;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.tools.JwtTool;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class SessionContextTests {
+
+	// 필터가 쿠키를 한 번 검증해서 요청 속성/스레드에 설정, 다른 스레드로 넘긴 작업에도 전파
+	@Test
+	void filterResolvesOnceAndPropagates() throws Exception {
+		SessionHandler sessionHandler = new SessionHandler(tokenCache());
+		SessionFilter filter = new SessionFilter(sessionHandler);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(Constant.JWT_ACCESS_COOKIE, token("bot1")));
+
+		AtomicReference<String> seen = new AtomicReference<>();
+		AtomicReference<String> offloaded = new AtomicReference<>();
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+				@Override
+				protected void service(HttpServletRequest req, HttpServletResponse res) {
+					seen.set(sessionHandler.getPlayerId());
+					pool.execute(SessionContext.wrap(() -> offloaded.set(SessionContext.require().getPlayerId())));
+				}
+			}));
+			pool.shutdown();
+			pool.awaitTermination(5, TimeUnit.SECONDS);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals("bot1", seen.get());
+		assertEquals("bot1", offloaded.get());
+		assertEquals("bot1", ((PlayerIdentity) request.getAttribute(SessionContext.ATTRIBUTE)).getPlayerId());
+		assertFalse(SessionContext.isResolved());
+	}
+
+	// 쿠키가 없으면 세션이 필요한 곳에서만 SESSION_NOT_FOUND, 잘못된 토큰은 그 예외
+	@Test
+	void requireReportsMissingOrInvalidSession() {
+		try (SessionContext.Scope scope = SessionContext.open(null, null)) {
+			ResponseException e = assertThrows(ResponseException.class, SessionContext::require);
+			assertEquals(Error.SESSION_NOT_FOUND.getCode(), e.getCode());
+		}
+
+		IllegalStateException invalid = new IllegalStateException("bad token");
+		try (SessionContext.Scope scope = SessionContext.open(null, invalid)) {
+			assertSame(invalid, assertThrows(IllegalStateException.class, SessionContext::require));
+		}
+	}
+
+	// 중첩 설정은 닫으면 바깥 값 복원, 인증 결과가 없는 스레드의 작업은 그대로
+	@Test
+	void scopesNestAndRestore() {
+		PlayerIdentity outer = new PlayerIdentity("outer", Long.MAX_VALUE);
+		try (SessionContext.Scope scope = SessionContext.open(outer, null)) {
+			try (SessionContext.Scope inner = SessionContext.open(new PlayerIdentity("inner", Long.MAX_VALUE), null)) {
+				assertEquals("inner", SessionContext.require().getPlayerId());
+			}
+			assertSame(outer, SessionContext.require());
+		}
+		assertFalse(SessionContext.isResolved());
+
+		Runnable task = () -> {
+		};
+		assertSame(task, SessionContext.wrap(task));
+	}
+
+	private static String token(String playerId) {
+		PlayerSession session = new PlayerSession();
+		session.setPlayerId(playerId);
+		session.setPlayerPassword("");
+		return JwtTool.generateToken(playerId, session);
+	}
+
+	private TokenCache tokenCache() {
+		TokenCache cache = new TokenCache(new ApplicationProperties());
+		cache.init();
+		return cache;
+	}
+}
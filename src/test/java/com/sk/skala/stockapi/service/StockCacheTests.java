@@ -0,0 +1,76 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sk.skala.stockapi.data.table.Stock;
+import com.sk.skala.stockapi.repository.StockRepository;
+import com.sk.skala.stockapi.tools.MoneyTool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+		"application.stock-cache.capacity=4",
+		"application.stock-cache.stripes=1" })
+class StockCacheTests {
+
+	@Autowired
+	private StockCache stockCache;
+	@Autowired
+	private StockRepository stockRepository;
+	@Autowired
+	private StockService stockService;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void readThroughThenHit() {
+		Stock stock = stockRepository.save(new Stock("CACHE-HIT", MoneyTool.of(10)));
+		double misses = meterRegistry.get("stock.cache.misses").functionCounter().count();
+		double hits = meterRegistry.get("stock.cache.hits").functionCounter().count();
+
+		Stock first = stockCache.get(stock.getId());
+		Stock second = stockCache.get(stock.getId());
+
+		assertSame(first, second);
+		assertNotSame(stock, first);
+		assertEquals(misses + 1, meterRegistry.get("stock.cache.misses").functionCounter().count());
+		assertEquals(hits + 1, meterRegistry.get("stock.cache.hits").functionCounter().count());
+		assertNull(stockCache.get(-1L));
+	}
+
+	@Test
+	void updateInvalidatesOnlyThatStock() {
+		Stock a = stockRepository.save(new Stock("CACHE-A", MoneyTool.of(10)));
+		Stock b = stockRepository.save(new Stock("CACHE-B", MoneyTool.of(20)));
+		Map<Long, Stock> loaded = stockCache.getAll(List.of(a.getId(), b.getId()));
+
+		a.setStockPrice(MoneyTool.of(11));
+		stockService.updateStock(a);
+
+		assertEquals(MoneyTool.of(11), stockCache.get(a.getId()).getStockPrice());
+		assertSame(loaded.get(b.getId()), stockCache.get(b.getId()));
+	}
+
+	@Test
+	void boundedByCapacity() {
+		double evictions = meterRegistry.get("stock.cache.evictions").functionCounter().count();
+		for (int i = 0; i < 6; i++) {
+			Stock stock = stockRepository.save(new Stock("CACHE-CAP-" + i, MoneyTool.of(1)));
+			stockCache.get(stock.getId());
+		}
+
+		assertTrue(stockCache.size() <= 4);
+		assertTrue(meterRegistry.get("stock.cache.evictions").functionCounter().count() >= evictions + 2);
+	}
+}
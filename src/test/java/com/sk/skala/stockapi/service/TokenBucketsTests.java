@@ -0,0 +1,114 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTests {
+
+	// 버스트만큼 허용 후 거절, 거절 시 다음 토큰까지 남은 시간
+	@Test
+	void allowsBurstThenReportsWait() {
+		TokenBuckets buckets = new TokenBuckets(10, 3, 1, 0);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, buckets.acquire("p1", 1000));
+		}
+		assertEquals(100, buckets.acquire("p1", 1000));
+		assertEquals(40, buckets.acquire("p1", 1060));
+		// 다른 키는 별도 버킷
+		assertEquals(0, buckets.acquire("p2", 1060));
+	}
+
+	// 시간에 비례해서 다시 채우고 burst 이상은 쌓이지 않음
+	@Test
+	void refillsUpToBurst() {
+		TokenBuckets buckets = new TokenBuckets(10, 2, 1, 0);
+		buckets.acquire("p1", 0);
+		buckets.acquire("p1", 0);
+
+		assertEquals(0, buckets.acquire("p1", 100));
+		assertTrue(buckets.acquire("p1", 100) > 0);
+
+		long later = 60_000;
+		assertEquals(0, buckets.acquire("p1", later));
+		assertEquals(0, buckets.acquire("p1", later));
+		assertTrue(buckets.acquire("p1", later) > 0);
+	}
+
+	// 되돌린 토큰은 바로 다시 쓸 수 있고 burst 이상은 쌓이지 않음
+	@Test
+	void releaseReturnsOneToken() {
+		TokenBuckets buckets = new TokenBuckets(10, 2, 1, 0);
+		buckets.acquire("p1", 0);
+		buckets.acquire("p1", 0);
+		assertTrue(buckets.acquire("p1", 0) > 0);
+
+		buckets.release("p1");
+		assertEquals(0, buckets.acquire("p1", 0));
+		assertTrue(buckets.acquire("p1", 0) > 0);
+
+		buckets.release("p1");
+		buckets.release("p1");
+		buckets.release("p1");
+		assertEquals(0, buckets.acquire("p1", 0));
+		assertEquals(0, buckets.acquire("p1", 0));
+		assertTrue(buckets.acquire("p1", 0) > 0);
+	}
+
+	// 가득 찬 채로 idle 이 지난 버킷만 제거
+	@Test
+	void evictsIdleFullBuckets() {
+		TokenBuckets buckets = new TokenBuckets(1, 5, 4, 0);
+		buckets.acquire("idle", 0);
+		buckets.acquire("busy", 0);
+		for (int i = 0; i < 5; i++) {
+			buckets.acquire("busy", 9_000);
+		}
+
+		assertEquals(1, buckets.evictIdle(10_000, 5_000));
+		assertEquals(1, buckets.size());
+		// 제거된 키는 가득 찬 새 버킷으로 다시 시작
+		assertEquals(0, buckets.acquire("idle", 10_000));
+	}
+
+	// 동시에 몰려도 허용 건수는 정확히 burst
+	@Test
+	void concurrentAcquiresNeverExceedBurst() throws Exception {
+		TokenBuckets buckets = new TokenBuckets(1, 1000, 16, 0);
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					int accepted = 0;
+					for (int i = 0; i < 1000; i++) {
+						if (buckets.acquire("bot", 0) == 0) {
+							accepted++;
+						}
+					}
+					return accepted;
+				}));
+			}
+			start.countDown();
+			int accepted = 0;
+			for (Future<Integer> future : futures) {
+				accepted += future.get();
+			}
+			assertEquals(1000, accepted);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.sk.skala.stockapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.sk.skala.stockapi.config.ApplicationProperties;
+import com.sk.skala.stockapi.config.Error;
+import com.sk.skala.stockapi.data.dto.PlayerIdentity;
+import com.sk.skala.stockapi.data.dto.PlayerSession;
+import com.sk.skala.stockapi.exception.ResponseException;
+import com.sk.skala.stockapi.tools.JwtTool;
+
+import io.jsonwebtoken.JwtException;
+
+class TokenCacheTests {
+
+	// 같은 토큰은 한 번만 검증/파싱하고 같은 세션 반환
+	@Test
+	void repeatedTokenHitsCache() {
+		TokenCache cache = cache(100);
+		String token = token("bot1");
+
+		PlayerIdentity first = cache.get(token);
+		assertEquals("bot1", first.getPlayerId());
+		assertSame(first, cache.get(token));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void invalidTokenIsNotCached() {
+		TokenCache cache = cache(100);
+		String token = token("bot1");
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThrows(JwtException.class, () -> cache.get(tampered));
+		assertEquals(0, cache.size());
+	}
+
+	// 로그아웃한 토큰은 서명이 유효해도 거부, 다른 토큰은 영향 없음
+	@Test
+	void revokedTokenIsRejected() {
+		TokenCache cache = cache(100);
+		String token = token("bot1");
+		String other = token("bot2");
+		cache.get(token);
+		cache.get(other);
+
+		cache.revoke(token);
+
+		ResponseException e = assertThrows(ResponseException.class, () -> cache.get(token));
+		assertEquals(Error.NOT_AUTHENTICATED.getCode(), e.getCode());
+		assertEquals("bot2", cache.get(other).getPlayerId());
+		assertEquals(1, cache.size());
+	}
+
+	// 용량을 넘으면 가장 오래 안 쓴 토큰부터 제거
+	@Test
+	void evictsLeastRecentlyUsed() {
+		TokenCache cache = cache(2);
+		String a = token("a");
+		String b = token("b");
+		PlayerIdentity cachedA = cache.get(a);
+		cache.get(b);
+		cache.get(a);
+		cache.get(token("c"));
+
+		assertEquals(2, cache.size());
+		assertSame(cachedA, cache.get(a));
+	}
+
+	private static String token(String playerId) {
+		PlayerSession session = new PlayerSession();
+		session.setPlayerId(playerId);
+		session.setPlayerPassword("");
+		return JwtTool.generateToken(playerId, session);
+	}
+
+	private TokenCache cache(int capacity) {
+		ApplicationProperties properties = new ApplicationProperties();
+		properties.getTokenCache().setCapacity(capacity);
+		properties.getTokenCache().setStripes(1);
+		TokenCache cache = new TokenCache(properties);
+		cache.init();
+		return cache;
+	}
+}
@@ -0,0 +1,85 @@
+package com.sk.skala.stockapi.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sk.skala.stockapi.data.common.ApiLog;
+import com.sk.skala.stockapi.data.common.Response;
+import com.sk.skala.stockapi.data.dto.PlayerSession;
+import com.sk.skala.stockapi.data.table.Stock;
+
+class JsonToolTests {
+
+	// 공유 ObjectMapper 로 바꿔도 출력은 기본 ObjectMapper 와 같음
+	@Test
+	void matchesDefaultObjectMapperOutput() throws Exception {
+		ObjectMapper fresh = new ObjectMapper();
+		ApiLog apiLog = new ApiLog();
+		apiLog.setApiUrl("/api/stocks");
+		apiLog.setElapsedTime(3);
+		Response response = new Response();
+		response.setBody(List.of(new Stock(1L, "TechCorp", MoneyTool.parse("101.25"))));
+
+		assertEquals(fresh.writeValueAsString(apiLog), JsonTool.toString(apiLog));
+		assertEquals(fresh.writeValueAsString(response), JsonTool.toString(response));
+		assertEquals(JsonTool.toString(response), new String(JsonTool.toBytes(response), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void readsTypedValues() {
+		PlayerSession session = JsonTool.toObject("{\"playerId\":\"p1\",\"playerPassword\":\"\"}", PlayerSession.class);
+		assertEquals("p1", session.getPlayerId());
+
+		List<PlayerSession> sessions = JsonTool.toList("[{\"playerId\":\"a\"},{\"playerId\":\"b\"}]",
+				PlayerSession.class);
+		assertEquals("b", sessions.get(1).getPlayerId());
+
+		Map<String, Object> map = JsonTool.toMap("{\"a\":1}");
+		assertEquals(1, map.get("a"));
+		assertEquals(1, JsonTool.toJsonNode("{\"a\":1}").get("a").asInt());
+		assertNull(JsonTool.toObject("{not json", PlayerSession.class));
+	}
+
+	// 스트림 버전은 스트림을 닫지 않으므로 같은 스트림에 이어서 쓸 수 있음
+	@Test
+	void streamsWithoutClosingTarget() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		OutputStream out = new OutputStream() {
+			@Override
+			public void write(int b) {
+				bytes.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				bytes.write(b, off, len);
+			}
+
+			@Override
+			public void close() {
+				throw new IllegalStateException("closed");
+			}
+		};
+		PlayerSession session = new PlayerSession();
+		session.setPlayerId("p1");
+
+		JsonTool.write(out, session);
+		out.write('\n');
+		JsonTool.write(out, session);
+
+		String text = bytes.toString(StandardCharsets.UTF_8);
+		assertEquals(JsonTool.toString(session) + "\n" + JsonTool.toString(session), text);
+		PlayerSession read = JsonTool.read(new ByteArrayInputStream(JsonTool.toBytes(session)), PlayerSession.class);
+		assertEquals("p1", read.getPlayerId());
+	}
+}
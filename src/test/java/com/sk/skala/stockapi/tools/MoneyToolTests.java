@@ -0,0 +1,65 @@
+package com.sk.skala.stockapi.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyToolTests {
+
+	@Test
+	void formatsLikeTheDecimalApi() {
+		assertEquals("10000.0", MoneyTool.format(MoneyTool.of(10000)));
+		assertEquals("101.25", MoneyTool.format(MoneyTool.parse("101.25")));
+		assertEquals("0.05", MoneyTool.format(MoneyTool.parse("0.05")));
+		assertEquals("0.000001", MoneyTool.format(1));
+		assertEquals("-3.5", MoneyTool.format(MoneyTool.parse("-3.5")));
+		assertEquals("0.0", MoneyTool.format(0));
+	}
+
+	@Test
+	void parsesAndRoundsToMicros() {
+		assertEquals(1_000_000L, MoneyTool.parse("1"));
+		assertEquals(123_456_789L, MoneyTool.parse("123.456789"));
+		assertEquals(2L, MoneyTool.parse("0.0000015"));
+	}
+
+	// 곱셈이 long 범위를 넘어도 amount x part / whole 과 같은 값 (0 방향 절사)
+	@Test
+	void sharesWithoutOverflow() {
+		SplittableRandom random = new SplittableRandom(7);
+		for (int i = 0; i < 100_000; i++) {
+			long amount = random.nextLong() >> random.nextInt(64);
+			long whole = 1 + random.nextInt(Integer.MAX_VALUE);
+			long part = random.nextLong(whole + 1);
+			long expected = BigInteger.valueOf(amount).multiply(BigInteger.valueOf(part))
+					.divide(BigInteger.valueOf(whole)).longValueExact();
+			assertEquals(expected, MoneyTool.share(amount, part, whole));
+		}
+		assertEquals(MoneyTool.of(1_000_000_000_000L) / 10_000, MoneyTool.share(MoneyTool.of(1_000_000_000_000L), 100, 1_000_000));
+	}
+
+	// 백만 건 체결 후에도 잔액 = 초기 잔액 - 체결 금액 합계 가 정확히 일치
+	@Test
+	void balancesReconcileExactlyOverManyTrades() {
+		SplittableRandom random = new SplittableRandom(42);
+		long initial = MoneyTool.of(1_000_000_000L);
+		long balance = initial;
+		long traded = 0;
+		for (int i = 0; i < 1_000_000; i++) {
+			long price = MoneyTool.parse("0.01") + random.nextLong(MoneyTool.of(500));
+			long cost = MoneyTool.multiply(price, 1 + random.nextInt(100));
+			if (random.nextBoolean()) {
+				balance -= cost;
+				traded -= cost;
+			} else {
+				balance += cost;
+				traded += cost;
+			}
+		}
+		assertEquals(initial + traded, balance);
+		assertEquals(MoneyTool.format(initial + traded), MoneyTool.format(balance));
+	}
+}